@@ -0,0 +1,110 @@
+package de.berlinerschachverband.bmm.benchmark;
+
+import de.berlinerschachverband.bmm.BmmApplication;
+import de.berlinerschachverband.bmm.basedata.data.*;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts the application against an in-memory H2 database filled with data of the size of the BMM:
+ * 150 clubs and 10 seasons, each season with 6 divisions on 3 levels and 40 teams.
+ */
+@State(Scope.Benchmark)
+public class BmmFixture {
+
+    public static final int NUMBER_OF_CLUBS = 150;
+    public static final int NUMBER_OF_SEASONS = 10;
+    public static final int DIVISIONS_PER_SEASON = 6;
+    public static final int TEAMS_PER_SEASON = 40;
+
+    private ConfigurableApplicationContext context;
+
+    private final List<String> seasonNames = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BmmApplication.class)
+                .properties(getProperties())
+                .run();
+        createFixtures();
+    }
+
+    /**
+     * Properties the application is started with, by default without a web server.
+     * @return
+     */
+    protected String[] getProperties() {
+        return new String[]{"spring.datasource.url=jdbc:h2:mem:bmm-benchmark;DB_CLOSE_DELAY=-1",
+                "spring.main.web-application-type=none",
+                "spring.main.banner-mode=off",
+                "logging.level.root=warn"};
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public int getLocalServerPort() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    public List<String> getSeasonNames() {
+        return seasonNames;
+    }
+
+    private void createFixtures() {
+        List<Club> clubs = new ArrayList<>();
+        for(int clubNumber = 1; clubNumber <= NUMBER_OF_CLUBS; clubNumber++) {
+            Club club = new Club();
+            club.setName("Club " + clubNumber);
+            club.setActive(clubNumber % 10 != 0);
+            clubs.add(club);
+        }
+        getBean(ClubRepository.class).saveAll(clubs);
+
+        Map<Club, Integer> teamNumberByClub = new HashMap<>();
+        List<Division> divisions = new ArrayList<>();
+        List<Team> teams = new ArrayList<>();
+        for(int seasonNumber = 1; seasonNumber <= NUMBER_OF_SEASONS; seasonNumber++) {
+            Season season = new Season();
+            season.setName("Season " + (2010 + seasonNumber));
+            getBean(SeasonRepository.class).save(season);
+            seasonNames.add(season.getName());
+            List<Division> divisionsOfSeason = new ArrayList<>();
+            for(int divisionNumber = 0; divisionNumber < DIVISIONS_PER_SEASON; divisionNumber++) {
+                // levels 1, 2, 2, 3, 3, 3
+                int level = divisionNumber == 0 ? 1 : divisionNumber < 3 ? 2 : 3;
+                Division division = new Division();
+                division.setName("Division " + level + (char) ('a' + divisionNumber));
+                division.setLevel(level);
+                division.setSeason(season);
+                divisionsOfSeason.add(division);
+            }
+            divisions.addAll(divisionsOfSeason);
+            for(int teamIndex = 0; teamIndex < TEAMS_PER_SEASON; teamIndex++) {
+                Club club = clubs.get((seasonNumber * TEAMS_PER_SEASON + teamIndex) % NUMBER_OF_CLUBS);
+                Team team = new Team();
+                team.setClub(club);
+                team.setNumber(teamNumberByClub.merge(club, 1, Integer::sum));
+                team.setDivision(divisionsOfSeason.get(teamIndex % DIVISIONS_PER_SEASON));
+                teams.add(team);
+            }
+        }
+        getBean(DivisionRepository.class).saveAll(divisions);
+        getBean(TeamRepository.class).saveAll(teams);
+    }
+}
@@ -0,0 +1,67 @@
+package de.berlinerschachverband.bmm.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput and latency percentiles of rendering a season page with requests handled
+ * by the Tomcat platform thread pool against requests handled on virtual threads. 256 clients put the
+ * 200 Tomcat workers under load. The page cache is disabled so that every request renders the page, the season
+ * overview and the navbar are served from memory, so the benchmark measures request handling and rendering,
+ * not database access.
+ * Run with e.g. `-Djmh.args="RequestThreadingBenchmark -p threads=platform"` on a JDK without virtual threads.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestThreadingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class WebFixture extends BmmFixture {
+
+        @Param({"platform", "virtual"})
+        public String threads;
+
+        @Override
+        protected String[] getProperties() {
+            return new String[]{"spring.datasource.url=jdbc:h2:mem:bmm-benchmark;DB_CLOSE_DELAY=-1",
+                    "spring.main.banner-mode=off",
+                    "logging.level.root=warn",
+                    "server.port=0",
+                    "bmm.page-cache.maximum-bytes=0",
+                    "bmm.threads.virtual=" + threads.equals("virtual")};
+        }
+    }
+
+    private HttpClient httpClient;
+    private HttpRequest seasonPageRequest;
+
+    @Setup
+    public void setUp(WebFixture webFixture) {
+        httpClient = HttpClient.newHttpClient();
+        String seasonName = webFixture.getSeasonNames().get(BmmFixture.NUMBER_OF_SEASONS - 1);
+        seasonPageRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + webFixture.getLocalServerPort()
+                + "/season/" + URLEncoder.encode(seasonName, StandardCharsets.UTF_8).replace("+", "%20"))).build();
+    }
+
+    @Benchmark
+    public int getSeasonPage() throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(seasonPageRequest, HttpResponse.BodyHandlers.discarding());
+        if(response.statusCode() != 200) {
+            throw new IllegalStateException("season page answered with status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
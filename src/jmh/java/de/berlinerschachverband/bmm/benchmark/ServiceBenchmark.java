@@ -0,0 +1,98 @@
+package de.berlinerschachverband.bmm.benchmark;
+
+import com.google.common.collect.SortedSetMultimap;
+import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.Team;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.basedata.data.TeamRepository;
+import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.basedata.service.SeasonService;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.navigation.data.SeasonOverviewData;
+import de.berlinerschachverband.bmm.navigation.service.SeasonOverviewService;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayCreationReportData;
+import de.berlinerschachverband.bmm.resultdata.service.MatchDayService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the service layer against the BmmFixture.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    private ClubService clubService;
+    private DivisionService divisionService;
+    private TeamService teamService;
+    private MatchDayService matchDayService;
+    private SeasonOverviewService seasonOverviewService;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+
+    private String seasonName;
+    private SeasonData seasonData;
+    private List<Team> teamsOfSeason;
+
+    @Setup
+    public void setUp(BmmFixture bmmFixture) {
+        clubService = bmmFixture.getBean(ClubService.class);
+        divisionService = bmmFixture.getBean(DivisionService.class);
+        teamService = bmmFixture.getBean(TeamService.class);
+        matchDayService = bmmFixture.getBean(MatchDayService.class);
+        seasonOverviewService = bmmFixture.getBean(SeasonOverviewService.class);
+        transactionTemplate = new TransactionTemplate(bmmFixture.getBean(PlatformTransactionManager.class));
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(bmmFixture.getBean(EntityManagerFactory.class));
+        SeasonService seasonService = bmmFixture.getBean(SeasonService.class);
+        seasonName = bmmFixture.getSeasonNames().get(BmmFixture.NUMBER_OF_SEASONS - 1);
+        seasonData = seasonService.toSeasonData(seasonService.getSeason(seasonName));
+        teamsOfSeason = bmmFixture.getBean(TeamRepository.class).findByDivision_Season_Id(seasonData.id());
+    }
+
+    @Benchmark
+    public List<ClubData> getAllClubs() {
+        return clubService.getAllClubs();
+    }
+
+    @Benchmark
+    public SortedSetMultimap<Integer, String> getDivisionsOfSeasonByLevel() {
+        return divisionService.getDivisionsOfSeasonByLevel(seasonName);
+    }
+
+    @Benchmark
+    public SeasonOverviewData getSeasonOverview() {
+        return seasonOverviewService.getSeasonOverview(seasonName);
+    }
+
+    @Benchmark
+    public List<TeamData> toTeamData() {
+        return teamsOfSeason.stream().map(teamService::toTeamData).toList();
+    }
+
+    /**
+     * Creates the match days and matches of a whole season including the inserts, the transaction is rolled back
+     * afterwards so that every invocation starts from a season without match days.
+     */
+    @Benchmark
+    public MatchDayCreationReportData createRoundRobinMatchDaysForSeason() {
+        return transactionTemplate.execute(status -> {
+            MatchDayCreationReportData report = matchDayService.createRoundRobinMatchDaysForSeason(seasonData);
+            entityManager.flush();
+            status.setRollbackOnly();
+            return report;
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.resultdata.data.MatchScoreData;
+import de.berlinerschachverband.bmm.resultdata.data.thymeleaf.RegularDivisionTableData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the standings of a division of 10 teams after a complete round robin.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DivisionStandingsBenchmark {
+
+    private static final int NUMBER_OF_TEAMS = 10;
+
+    private List<TeamData> teams;
+    private List<MatchScoreData> matchScores;
+    private DivisionStandings divisionStandings;
+    private int revision;
+
+    @Setup
+    public void setUp() {
+        DivisionData divisionData = new DivisionData(1L, "Division 1", 1, new SeasonData(1L, "Season"));
+        teams = new ArrayList<>();
+        for(long teamId = 1; teamId <= NUMBER_OF_TEAMS; teamId++) {
+            teams.add(new TeamData(teamId, new ClubData(teamId, "Club " + teamId, true), Optional.of(divisionData), 1));
+        }
+        matchScores = new ArrayList<>();
+        long matchId = 1;
+        for(long homeTeamId = 1; homeTeamId <= NUMBER_OF_TEAMS; homeTeamId++) {
+            for(long awayTeamId = homeTeamId + 1; awayTeamId <= NUMBER_OF_TEAMS; awayTeamId++) {
+                int homeBoardHalfPoints = (int) ((homeTeamId * 7 + awayTeamId * 3) % 17);
+                matchScores.add(new MatchScoreData(matchId++, 1, homeTeamId, awayTeamId,
+                        homeBoardHalfPoints, 16 - Math.min(homeBoardHalfPoints, 16)));
+            }
+        }
+        divisionStandings = new DivisionStandings(teams, matchScores);
+        revision = 1;
+    }
+
+    /**
+     * Sets up the standings from the stored match scores, as done on first access of a division.
+     */
+    @Benchmark
+    public List<RegularDivisionTableData> buildFromMatchScores() {
+        return new DivisionStandings(teams, matchScores).getTable();
+    }
+
+    /**
+     * Applies a corrected result to existing standings and computes the table again.
+     */
+    @Benchmark
+    public List<RegularDivisionTableData> applyMatchScoreAndGetTable() {
+        MatchScoreData matchScore = matchScores.get(revision % matchScores.size());
+        divisionStandings.applyMatchScore(new MatchScoreData(matchScore.matchId(), ++revision,
+                matchScore.homeTeamId(), matchScore.awayTeamId(), matchScore.awayBoardHalfPoints(), matchScore.homeBoardHalfPoints()));
+        return divisionStandings.getTable();
+    }
+
+    /**
+     * Gets the table of unchanged standings.
+     */
+    @Benchmark
+    public List<RegularDivisionTableData> getTable() {
+        return divisionStandings.getTable();
+    }
+}
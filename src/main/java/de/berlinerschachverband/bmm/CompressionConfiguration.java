@@ -0,0 +1,22 @@
+package de.berlinerschachverband.bmm;
+
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tomcat does not compress responses with a strong ETag by default. The season and division pages and
+ * the API answer with the strong ETags of the ContentVersionService or the ShallowEtagHeaderFilter,
+ * so server.compression would not apply to the very responses it is meant for.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class CompressionConfiguration {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<AbstractHttp11Protocol<?>> strongETagCompressionCustomizer() {
+        return protocolHandler -> protocolHandler.setNoCompressionStrongETag(false);
+    }
+}
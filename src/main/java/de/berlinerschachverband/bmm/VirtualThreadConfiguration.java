@@ -0,0 +1,62 @@
+package de.berlinerschachverband.bmm;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs Tomcat request handling and @Async service work on virtual threads if bmm.threads.virtual=true.
+ * Blocking JDBC calls then park a cheap virtual thread instead of occupying one of the 200 Tomcat workers,
+ * so request spikes no longer exhaust the pool. Database connections are still bounded by the connection pool.
+ * Virtual threads require JDK 21, the application keeps compiling for Java 16, so the executor is looked up
+ * reflectively and startup fails if the mode is enabled on a JDK without virtual threads.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bmm.threads.virtual", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadConfiguration.class);
+
+    /**
+     * One executor for requests and @Async work, it starts a new virtual thread per task.
+     * Being an Executor bean, it replaces the thread pool Spring Boot would configure for @Async.
+     * @return
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        try {
+            ExecutorService executorService = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            LOGGER.info("Running requests and asynchronous tasks on virtual threads");
+            return executorService;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("bmm.threads.virtual=true requires a JDK with virtual threads, running on "
+                    + Runtime.version(), e);
+        }
+    }
+
+    /**
+     * Also named taskExecutor: with scheduling enabled there is a second TaskExecutor, the task scheduler,
+     * and @Async only picks an executor by that name if the TaskExecutor bean is not unique.
+     * @param virtualThreadExecutor
+     * @return
+     */
+    @Bean({"applicationTaskExecutor", "taskExecutor"})
+    public TaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+}
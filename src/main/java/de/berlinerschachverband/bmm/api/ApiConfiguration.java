@@ -0,0 +1,21 @@
+package de.berlinerschachverband.bmm.api;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * Clubs are not versioned like the season data, their ETag is computed from the response body instead.
+ * This saves the bytes of unchanged responses, though not the work of creating them.
+ */
+@Configuration
+public class ApiConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> apiClubsEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/clubs");
+        return registration;
+    }
+}
@@ -0,0 +1,143 @@
+package de.berlinerschachverband.bmm.api.controller;
+
+import de.berlinerschachverband.bmm.basedata.data.ClubPageData;
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonPageData;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.basedata.service.SeasonService;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.exceptions.ClubNotFoundException;
+import de.berlinerschachverband.bmm.exceptions.DivisionNotFoundException;
+import de.berlinerschachverband.bmm.exceptions.SeasonNotFoundException;
+import de.berlinerschachverband.bmm.navigation.controller.ConditionalRequests;
+import de.berlinerschachverband.bmm.navigation.service.ContentVersionService;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayData;
+import de.berlinerschachverband.bmm.resultdata.data.thymeleaf.RegularDivisionTableData;
+import de.berlinerschachverband.bmm.resultdata.service.MatchDayService;
+import de.berlinerschachverband.bmm.resultdata.service.TableService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only JSON API for the public league data. Lists that grow with the history of the association
+ * are paged by name: a page starts after the name given in the after parameter, the response contains
+ * the name to continue with. Season data carries the same ETags as the HTML pages.
+ */
+@RestController
+@RequestMapping(value = "/api")
+public class PublicApiController {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAXIMUM_PAGE_SIZE = 200;
+
+    private final SeasonService seasonService;
+    private final DivisionService divisionService;
+    private final TeamService teamService;
+    private final ClubService clubService;
+    private final MatchDayService matchDayService;
+    private final TableService tableService;
+    private final ContentVersionService contentVersionService;
+
+    public PublicApiController(SeasonService seasonService,
+                               DivisionService divisionService,
+                               TeamService teamService,
+                               ClubService clubService,
+                               MatchDayService matchDayService,
+                               TableService tableService,
+                               ContentVersionService contentVersionService) {
+        this.seasonService = seasonService;
+        this.divisionService = divisionService;
+        this.teamService = teamService;
+        this.clubService = clubService;
+        this.matchDayService = matchDayService;
+        this.tableService = tableService;
+        this.contentVersionService = contentVersionService;
+    }
+
+    @GetMapping(value = "/seasons")
+    public SeasonPageData getSeasons(@RequestParam(required = false) final String after,
+                                     @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) final int limit,
+                                     final ServletWebRequest servletWebRequest) {
+        if(ConditionalRequests.checkNotModified(servletWebRequest, contentVersionService.getGlobalVersion())) {
+            return null;
+        }
+        return seasonService.getSeasonsPage(Optional.ofNullable(after), pageSize(limit));
+    }
+
+    @GetMapping(value = "/seasons/{seasonName}/divisions")
+    public SortedMap<Integer, List<DivisionData>> getDivisionsByLevel(@PathVariable final String seasonName,
+                                                                      final ServletWebRequest servletWebRequest) {
+        if(ConditionalRequests.checkNotModified(servletWebRequest, contentVersionService.getSeasonVersion(seasonName))) {
+            return null;
+        }
+        SeasonData seasonData = seasonService.toSeasonData(seasonService.getSeason(seasonName));
+        return divisionService.getDivisionsOfSeason(seasonData).stream()
+                .sorted(Comparator.comparing(DivisionData::name))
+                .collect(Collectors.groupingBy(DivisionData::level, TreeMap::new, Collectors.toList()));
+    }
+
+    @GetMapping(value = "/seasons/{seasonName}/divisions/{divisionName}/teams")
+    public List<TeamData> getTeamsOfDivision(@PathVariable final String seasonName,
+                                             @PathVariable final String divisionName,
+                                             final ServletWebRequest servletWebRequest) {
+        if(ConditionalRequests.checkNotModified(servletWebRequest,
+                contentVersionService.getDivisionVersion(seasonName, divisionName))) {
+            return null;
+        }
+        return teamService.getTeamsOfDivision(getDivisionData(seasonName, divisionName)).stream()
+                .sorted(Comparator.comparing(TeamData::name))
+                .toList();
+    }
+
+    @GetMapping(value = "/seasons/{seasonName}/divisions/{divisionName}/matchDays")
+    public List<MatchDayData> getMatchDaysOfDivision(@PathVariable final String seasonName,
+                                                     @PathVariable final String divisionName,
+                                                     final ServletWebRequest servletWebRequest) {
+        if(ConditionalRequests.checkNotModified(servletWebRequest,
+                contentVersionService.getDivisionVersion(seasonName, divisionName))) {
+            return null;
+        }
+        return matchDayService.getMatchDaysOfDivision(getDivisionData(seasonName, divisionName));
+    }
+
+    @GetMapping(value = "/seasons/{seasonName}/divisions/{divisionName}/standings")
+    public List<RegularDivisionTableData> getStandingsOfDivision(@PathVariable final String seasonName,
+                                                                 @PathVariable final String divisionName,
+                                                                 final ServletWebRequest servletWebRequest) {
+        if(ConditionalRequests.checkNotModified(servletWebRequest,
+                contentVersionService.getDivisionVersion(seasonName, divisionName))) {
+            return null;
+        }
+        return tableService.getRegularTable(getDivisionData(seasonName, divisionName));
+    }
+
+    @GetMapping(value = "/clubs")
+    public ClubPageData getClubs(@RequestParam(required = false) final String after,
+                                 @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) final int limit) {
+        return clubService.getClubsPage(Optional.ofNullable(after), pageSize(limit));
+    }
+
+    @ExceptionHandler({SeasonNotFoundException.class, DivisionNotFoundException.class, ClubNotFoundException.class})
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public void handleNotFound() {
+    }
+
+    private DivisionData getDivisionData(String seasonName, String divisionName) {
+        return divisionService.toDivisionData(divisionService.getDivisionByNameAndSeasonName(divisionName, seasonName));
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAXIMUM_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,46 @@
+package de.berlinerschachverband.bmm.basedata;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Enables the Hibernate second-level cache and query cache for the entities annotated with @Cacheable,
+ * i.e. seasons, divisions, clubs and teams, which are read on almost every request and change rarely.
+ * The caches are local Caffeine caches, bounded and recording statistics as configured in application.conf.
+ * Writes through Hibernate update the entity caches and invalidate cached queries of the affected tables.
+ */
+@Configuration
+public class EntityCacheConfiguration {
+
+    /**
+     * Every application context gets its own cache manager, so that contexts running side by side,
+     * e.g. in tests, never see entities of another context's database.
+     * @return
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager() {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return cachingProvider.getCacheManager(URI.create("bmm-entity-cache-" + UUID.randomUUID()),
+                cachingProvider.getDefaultClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernatePropertiesCustomizer(CacheManager entityCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put("javax.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+            hibernateProperties.put("hibernate.cache.use_second_level_cache", true);
+            hibernateProperties.put("hibernate.cache.use_query_cache", true);
+            hibernateProperties.put("hibernate.cache.region.factory_class", "jcache");
+            hibernateProperties.put("hibernate.javax.cache.cache_manager", entityCacheManager);
+            hibernateProperties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        };
+    }
+}
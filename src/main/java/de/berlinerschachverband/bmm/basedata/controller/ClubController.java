@@ -1,43 +1,44 @@
 package de.berlinerschachverband.bmm.basedata.controller;
 
+import de.berlinerschachverband.bmm.basedata.data.ClubPageData;
 import de.berlinerschachverband.bmm.basedata.data.thymeleaf.CreateClubData;
 import de.berlinerschachverband.bmm.basedata.service.ClubService;
 import de.berlinerschachverband.bmm.exceptions.ClubAlreadyExistsException;
 import de.berlinerschachverband.bmm.exceptions.ClubNotFoundException;
 import de.berlinerschachverband.bmm.exceptions.NameBlankException;
-import de.berlinerschachverband.bmm.navigation.service.NavbarService;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @Controller
 public class ClubController {
 
+    private static final int CLUBS_PAGE_SIZE = 50;
+
     private final ClubService clubService;
-    private final NavbarService navbarService;
 
-    public ClubController(ClubService clubService, NavbarService navbarService) {
+    public ClubController(ClubService clubService) {
         this.clubService = clubService;
-        this.navbarService = navbarService;
     }
 
     @GetMapping(value = "/clubs")
-    public String getClubs(final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
-        model.addAttribute("clubs", clubService.getAllClubs());
+    public String getClubs(@RequestParam(required = false) final String after, final Model model) {
+        ClubPageData clubPageData = clubService.getClubsPage(Optional.ofNullable(after), CLUBS_PAGE_SIZE);
+        model.addAttribute("clubs", clubPageData.clubs());
+        model.addAttribute("nextAfter", clubPageData.nextAfter().orElse(null));
         return "clubs";
     }
 
     @GetMapping(value = "/clubs/active")
     public String getActiveClubs(final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         model.addAttribute("clubs", clubService.getAllActiveClubs());
         return "activeClubs";
     }
 
     @PostMapping(value = "/club/deactivate/{clubName}")
     public String deactivateClub(@PathVariable final String clubName, final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         model.addAttribute("clubName", clubName);
         model.addAttribute("type", "deactivate");
         try {
@@ -51,7 +52,6 @@ public class ClubController {
 
     @PostMapping(value = "/club/activate/{clubName}")
     public String activateClub(@PathVariable final String clubName, final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         model.addAttribute("clubName", clubName);
         model.addAttribute("type", "activate");
         try {
@@ -65,14 +65,12 @@ public class ClubController {
 
     @GetMapping(value = "/club/create")
     public String createClub(final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         model.addAttribute("createClubData", new CreateClubData());
         return "createClub";
     }
 
     @PostMapping(value = "/club/create")
     public String createClub(@ModelAttribute CreateClubData createClubData, final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         try {
             model.addAttribute("club", clubService.createClub(createClubData.getClubName()));
             model.addAttribute("state", "success");
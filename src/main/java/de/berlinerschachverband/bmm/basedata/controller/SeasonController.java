@@ -1,53 +1,57 @@
 package de.berlinerschachverband.bmm.basedata.controller;
 
 import de.berlinerschachverband.bmm.basedata.data.thymeleaf.CreateSeasonData;
-import de.berlinerschachverband.bmm.basedata.service.DivisionService;
 import de.berlinerschachverband.bmm.basedata.service.SeasonService;
 import de.berlinerschachverband.bmm.exceptions.SeasonAlreadyExistsException;
 import de.berlinerschachverband.bmm.exceptions.NameBlankException;
-import de.berlinerschachverband.bmm.navigation.service.NavbarService;
+import de.berlinerschachverband.bmm.navigation.controller.ConditionalRequests;
+import de.berlinerschachverband.bmm.navigation.data.SeasonOverviewData;
+import de.berlinerschachverband.bmm.navigation.service.ContentVersionService;
+import de.berlinerschachverband.bmm.navigation.service.SeasonOverviewService;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Controller
 public class SeasonController {
 
     private final SeasonService seasonService;
-    private final NavbarService navbarService;
-    private final DivisionService divisionService;
-
-    private static final String NAVBAR_DATA = "navbarData";
+    private final SeasonOverviewService seasonOverviewService;
+    private final ContentVersionService contentVersionService;
 
     public SeasonController(SeasonService seasonService,
-                            NavbarService navbarService,
-                            DivisionService divisionService) {
+                            SeasonOverviewService seasonOverviewService,
+                            ContentVersionService contentVersionService) {
         this.seasonService = seasonService;
-        this.navbarService = navbarService;
-        this.divisionService = divisionService;
+        this.seasonOverviewService = seasonOverviewService;
+        this.contentVersionService = contentVersionService;
     }
 
     @GetMapping(value = "/season/{seasonName}")
-    public String getSeason(@PathVariable final String seasonName, final Model model) {
-        model.addAttribute(NAVBAR_DATA, navbarService.getNavbarData());
-        model.addAttribute("season", seasonService.toSeasonData(seasonService.getSeason(seasonName)));
-        model.addAttribute("divisions", divisionService.getDivisionsOfSeasonByLevel(seasonName));
+    public String getSeason(@PathVariable final String seasonName,
+                            final ServletWebRequest servletWebRequest,
+                            final Model model) {
+        if(ConditionalRequests.checkNotModified(servletWebRequest, contentVersionService.getSeasonVersion(seasonName))) {
+            return null;
+        }
+        SeasonOverviewData seasonOverview = seasonOverviewService.getSeasonOverview(seasonName);
+        model.addAttribute("season", seasonOverview.season());
+        model.addAttribute("divisions", seasonOverview.divisionsByLevel());
         return "season";
     }
 
     @GetMapping(value = "/administration/createSeason")
     public String createSeason(final Model model) {
-        model.addAttribute(NAVBAR_DATA, navbarService.getNavbarData());
         model.addAttribute("createSeasonData", new CreateSeasonData());
         return "createSeason";
     }
 
     @PostMapping(value = "/administration/createSeason")
     public String createSeason(@ModelAttribute CreateSeasonData createSeasonData, final Model model) {
-        model.addAttribute(NAVBAR_DATA, navbarService.getNavbarData());
         try {
             model.addAttribute("season", seasonService.createSeason(createSeasonData.getSeasonName()));
             model.addAttribute("state", "success");
@@ -1,15 +1,24 @@
 package de.berlinerschachverband.bmm.basedata.data;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "club")
+@Table(indexes = @Index(name = "CLUB_ACTIVE_NAME_IDX", columnList = "active, name"),
+        uniqueConstraints = @UniqueConstraint(name = Club.NAME_UK, columnNames = "name"))
 public class Club {
 
+    public static final String NAME_UK = "CLUB_NAME_UK";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String name;
 
     @Column(unique = false, nullable = false)
@@ -0,0 +1,10 @@
+package de.berlinerschachverband.bmm.basedata.data;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of clubs ordered by name. nextAfter is the name to continue with, empty on the last page.
+ */
+public record ClubPageData(List<ClubData> clubs, Optional<String> nextAfter) {
+}
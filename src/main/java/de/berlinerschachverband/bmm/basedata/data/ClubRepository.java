@@ -1,16 +1,30 @@
 package de.berlinerschachverband.bmm.basedata.data;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ClubRepository extends JpaRepository<Club, Long> {
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Club> findByName(String name);
 
-    List<Club> findByActiveTrue();
+    List<Club> findAllByOrderByName();
+
+    List<Club> findAllByOrderByName(Pageable pageable);
+
+    List<Club> findByNameGreaterThanOrderByName(String name, Pageable pageable);
+
+    List<Club> findByActiveTrueOrderByName();
+
+    @Query("select c.name from Club c where c.active = true order by c.name")
+    List<String> findNamesOfActiveClubs();
 
 }
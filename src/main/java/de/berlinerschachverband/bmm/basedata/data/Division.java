@@ -1,12 +1,21 @@
 package de.berlinerschachverband.bmm.basedata.data;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.lang.NonNull;
 
 import javax.persistence.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "division")
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = Division.SEASON_NAME_UK,
+        columnNames = {"season_id", "name"}))
 public class Division {
 
+    public static final String SEASON_NAME_UK = "DIVISION_SEASON_NAME_UK";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -1,15 +1,19 @@
 package de.berlinerschachverband.bmm.basedata.data;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
 public interface DivisionRepository extends JpaRepository<Division, Long> {
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Division> findBySeason_Name(String seasonName);
 
     List<Division> findBySeason_Id(Long seasonId);
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Division> findByNameAndSeason_Name(String divisionName, String seasonName);
 }
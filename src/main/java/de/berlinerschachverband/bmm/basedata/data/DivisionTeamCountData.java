@@ -0,0 +1,4 @@
+package de.berlinerschachverband.bmm.basedata.data;
+
+public record DivisionTeamCountData(Long divisionId, Long numberOfTeams) {
+}
@@ -1,17 +1,24 @@
 package de.berlinerschachverband.bmm.basedata.data;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.lang.NonNull;
 
 import javax.persistence.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "season")
+@Table(uniqueConstraints = @UniqueConstraint(name = Season.NAME_UK, columnNames = "name"))
 public class Season {
 
+    public static final String NAME_UK = "SEASON_NAME_UK";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String name;
 
     public Long getId() {
@@ -0,0 +1,10 @@
+package de.berlinerschachverband.bmm.basedata.data;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of seasons ordered by name. nextAfter is the name to continue with, empty on the last page.
+ */
+public record SeasonPageData(List<SeasonData> seasons, Optional<String> nextAfter) {
+}
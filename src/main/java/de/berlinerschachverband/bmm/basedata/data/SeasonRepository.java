@@ -1,12 +1,21 @@
 package de.berlinerschachverband.bmm.basedata.data;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SeasonRepository extends JpaRepository<Season, Long> {
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Season> findByName(String name);
+
+    List<Season> findAllByOrderByName(Pageable pageable);
+
+    List<Season> findByNameGreaterThanOrderByName(String name, Pageable pageable);
 }
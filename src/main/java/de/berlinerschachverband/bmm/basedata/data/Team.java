@@ -1,15 +1,21 @@
 package de.berlinerschachverband.bmm.basedata.data;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.lang.NonNull;
 
 import javax.persistence.*;
 import java.util.Optional;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team")
+@Table(indexes = @Index(name = "TEAM_CLUB_NUMBER_IDX", columnList = "club_id, number"))
 public class Team {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_sequence")
+    @SequenceGenerator(name = "team_sequence", sequenceName = "team_sequence", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -1,17 +1,37 @@
 package de.berlinerschachverband.bmm.basedata.data;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+/**
+ * Finders that feed TeamService.toTeamData fetch club, division and season within the same
+ * statement, so converting the teams does not cause further queries.
+ */
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
 
+    @EntityGraph(attributePaths = {"club", "division", "division.season"})
     Set<Team> findByDivision_Id(Long divisionId);
 
+    @EntityGraph(attributePaths = {"club", "division", "division.season"})
+    List<Team> findByDivision_Season_Id(Long seasonId);
+
+    @EntityGraph(attributePaths = {"club", "division", "division.season"})
     Optional<Team> findByClub_NameAndNumberAndDivisionIsNull(String clubName, Integer number);
 
+    @EntityGraph(attributePaths = {"club", "division", "division.season"})
     Set<Team> findByClub_NameAndDivisionIsNull(String clubName);
+
+    long countByDivision_Id(Long divisionId);
+
+    @Query("select new de.berlinerschachverband.bmm.basedata.data.DivisionTeamCountData(t.division.id, count(t)) " +
+            "from Team t where t.division.season.id = :seasonId group by t.division.id")
+    List<DivisionTeamCountData> countTeamsByDivisionOfSeason(@Param("seasonId") Long seasonId);
 }
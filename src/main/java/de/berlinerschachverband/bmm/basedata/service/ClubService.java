@@ -2,14 +2,18 @@ package de.berlinerschachverband.bmm.basedata.service;
 
 import de.berlinerschachverband.bmm.basedata.data.Club;
 import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.data.ClubPageData;
 import de.berlinerschachverband.bmm.basedata.data.ClubRepository;
 import de.berlinerschachverband.bmm.exceptions.ClubAlreadyExistsException;
 import de.berlinerschachverband.bmm.exceptions.ClubNotFoundException;
+import de.berlinerschachverband.bmm.exceptions.ConstraintViolations;
 import de.berlinerschachverband.bmm.exceptions.NameBlankException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class ClubService {
@@ -25,19 +29,41 @@ public class ClubService {
      * @return
      */
     public List<ClubData> getAllClubs() {
-        return clubRepository.findAll().stream()
-                .sorted(Comparator.comparing(Club::getName))
+        return clubRepository.findAllByOrderByName().stream()
                 .map(this::toClubData)
                 .toList();
     }
 
+    /**
+     * Get a page of clubs, active and inactive, ordered alphabetically by their name. The page starts with
+     * the first club whose name comes after the given name, or with the first club if no name is given.
+     * Paging by name instead of by offset lets the database start directly at the page using the index on name.
+     * @param after
+     * @param pageSize
+     * @return
+     */
+    public ClubPageData getClubsPage(Optional<String> after, int pageSize) {
+        // load one more club than requested to know if there is a next page
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<ClubData> clubs = after
+                .map(name -> clubRepository.findByNameGreaterThanOrderByName(name, pageRequest))
+                .orElseGet(() -> clubRepository.findAllByOrderByName(pageRequest))
+                .stream()
+                .map(this::toClubData)
+                .toList();
+        if(clubs.size() <= pageSize) {
+            return new ClubPageData(clubs, Optional.empty());
+        }
+        List<ClubData> page = clubs.subList(0, pageSize);
+        return new ClubPageData(page, Optional.of(page.get(pageSize - 1).name()));
+    }
+
     /**
      * Get all clubs with status active, ordered alphabetically by their name.
      * @return
      */
     public List<ClubData> getAllActiveClubs() {
-        return  clubRepository.findByActiveTrue().stream()
-                .sorted(Comparator.comparing(Club::getName))
+        return clubRepository.findByActiveTrueOrderByName().stream()
                 .map(this::toClubData)
                 .toList();
     }
@@ -47,10 +73,7 @@ public class ClubService {
      * @return
      */
     public List<String> getAllActiveClubsNames() {
-        return clubRepository.findByActiveTrue().stream()
-                .sorted(Comparator.comparing(Club::getName))
-                .map(Club::getName)
-                .toList();
+        return clubRepository.findNamesOfActiveClubs();
     }
 
     /**
@@ -64,8 +87,8 @@ public class ClubService {
     }
 
     /**
-     * Create a club by name. If a club with that name already exists,
-     * a ClubAlreadyExistsException is thrown.
+     * Create a club by name. If a club with that name already exists, which the unique constraint
+     * on the name detects, a ClubAlreadyExistsException is thrown.
      * @param clubName
      * @return
      */
@@ -73,14 +96,17 @@ public class ClubService {
         if(clubName.isBlank()) {
             throw new NameBlankException();
         }
-        if(clubRepository.findByName(clubName).isPresent()) {
-            throw new ClubAlreadyExistsException(clubName);
-        }
         Club club = new Club();
         club.setName(clubName);
         club.setActive(true);
-        clubRepository.saveAndFlush(club);
-        return toClubData(getClub(clubName));
+        try {
+            return toClubData(clubRepository.saveAndFlush(club));
+        } catch (DataIntegrityViolationException e) {
+            if(ConstraintViolations.isViolationOf(e, Club.NAME_UK)) {
+                throw new ClubAlreadyExistsException(clubName);
+            }
+            throw e;
+        }
     }
 
     /**
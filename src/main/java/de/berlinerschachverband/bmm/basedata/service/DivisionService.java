@@ -7,11 +7,16 @@ import de.berlinerschachverband.bmm.basedata.data.DivisionData;
 import de.berlinerschachverband.bmm.basedata.data.DivisionRepository;
 import de.berlinerschachverband.bmm.basedata.data.SeasonData;
 import de.berlinerschachverband.bmm.basedata.data.thymeleaf.CreateDivisionData;
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
+import de.berlinerschachverband.bmm.exceptions.ConstraintViolations;
 import de.berlinerschachverband.bmm.exceptions.DivisionAlreadyExistsException;
 import de.berlinerschachverband.bmm.exceptions.DivisionNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,9 +26,14 @@ public class DivisionService {
 
     private final SeasonService seasonService;
 
-    public DivisionService(DivisionRepository divisionRepository, SeasonService seasonService) {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public DivisionService(DivisionRepository divisionRepository,
+                           SeasonService seasonService,
+                           ApplicationEventPublisher applicationEventPublisher) {
         this.divisionRepository = divisionRepository;
         this.seasonService = seasonService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -66,26 +76,38 @@ public class DivisionService {
     }
 
     /**
-     * Create a division with a given name and a given level for a given season.
+     * Get a reference to a division by its id without loading it, e.g. for assigning it to new entities.
+     * @param divisionId
+     * @return
+     */
+    public Division getDivisionReference(Long divisionId) {
+        return divisionRepository.getOne(divisionId);
+    }
+
+    /**
+     * Create a division with a given name and a given level for a given season. If the season already has
+     * a division of that name, which the unique constraint on season and name detects,
+     * a DivisionAlreadyExistsException is thrown.
      * @param createDivisionData
      * @return
      */
     public DivisionData createDivision(CreateDivisionData createDivisionData) {
-        if(divisionRepository.findByNameAndSeason_Name(
-                createDivisionData.getName(),
-                createDivisionData.getSeasonName())
-                .isPresent()) {
-            throw new DivisionAlreadyExistsException(
-                    "season: " + createDivisionData.getSeasonName() +
-                            ", division: " + createDivisionData.getName());
-        }
         Division division = new Division();
         division.setName(createDivisionData.getName());
         division.setSeason(seasonService.getSeason(createDivisionData.getSeasonName()));
         division.setLevel(createDivisionData.getLevel());
-        divisionRepository.saveAndFlush(division);
-        return toDivisionData(getDivisionByNameAndSeasonName(
-                createDivisionData.getName(), createDivisionData.getSeasonName()));
+        try {
+            division = divisionRepository.saveAndFlush(division);
+        } catch (DataIntegrityViolationException e) {
+            if(ConstraintViolations.isViolationOf(e, Division.SEASON_NAME_UK)) {
+                throw new DivisionAlreadyExistsException(
+                        "season: " + createDivisionData.getSeasonName() +
+                                ", division: " + createDivisionData.getName());
+            }
+            throw e;
+        }
+        applicationEventPublisher.publishEvent(new ContentChangedEvent(createDivisionData.getSeasonName(), Optional.empty()));
+        return toDivisionData(division);
     }
 
     public DivisionData toDivisionData(Division division) {
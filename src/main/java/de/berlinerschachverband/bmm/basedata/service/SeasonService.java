@@ -2,22 +2,33 @@ package de.berlinerschachverband.bmm.basedata.service;
 
 import de.berlinerschachverband.bmm.basedata.data.Season;
 import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonPageData;
 import de.berlinerschachverband.bmm.basedata.data.SeasonRepository;
+import de.berlinerschachverband.bmm.events.SeasonCreatedEvent;
+import de.berlinerschachverband.bmm.exceptions.ConstraintViolations;
 import de.berlinerschachverband.bmm.exceptions.SeasonAlreadyExistsException;
 import de.berlinerschachverband.bmm.exceptions.NameBlankException;
 import de.berlinerschachverband.bmm.exceptions.SeasonNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class SeasonService {
 
     private final SeasonRepository seasonRepository;
 
-    public SeasonService(SeasonRepository seasonRepository) {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SeasonService(SeasonRepository seasonRepository,
+                         ApplicationEventPublisher applicationEventPublisher) {
         this.seasonRepository = seasonRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -31,6 +42,29 @@ public class SeasonService {
                 .toList();
     }
 
+    /**
+     * Get a page of seasons, ordered alphabetically by their name. The page starts with the first season
+     * whose name comes after the given name, or with the first season if no name is given.
+     * @param after
+     * @param pageSize
+     * @return
+     */
+    public SeasonPageData getSeasonsPage(Optional<String> after, int pageSize) {
+        // load one more season than requested to know if there is a next page
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<SeasonData> seasons = after
+                .map(name -> seasonRepository.findByNameGreaterThanOrderByName(name, pageRequest))
+                .orElseGet(() -> seasonRepository.findAllByOrderByName(pageRequest))
+                .stream()
+                .map(this::toSeasonData)
+                .toList();
+        if(seasons.size() <= pageSize) {
+            return new SeasonPageData(seasons, Optional.empty());
+        }
+        List<SeasonData> page = seasons.subList(0, pageSize);
+        return new SeasonPageData(page, Optional.of(page.get(pageSize - 1).name()));
+    }
+
     /**
      * Get all season names, ordered alphabetically.
      * @return
@@ -53,8 +87,8 @@ public class SeasonService {
     }
 
     /**
-     * Create a season by name. If a season with that name already exists,
-     * a SeasonAlreadyExistsException is thrown.
+     * Create a season by name. If a season with that name already exists, which the unique constraint
+     * on the name detects, a SeasonAlreadyExistsException is thrown. Publishes a SeasonCreatedEvent on success.
      * @param seasonName
      * @return
      */
@@ -62,13 +96,19 @@ public class SeasonService {
         if(seasonName.isBlank()) {
             throw new NameBlankException();
         }
-        if(seasonRepository.findByName(seasonName).isPresent()) {
-            throw new SeasonAlreadyExistsException(seasonName);
-        }
         Season season = new Season();
         season.setName(seasonName);
-        seasonRepository.saveAndFlush(season);
-        return toSeasonData(getSeason(seasonName));
+        try {
+            season = seasonRepository.saveAndFlush(season);
+        } catch (DataIntegrityViolationException e) {
+            if(ConstraintViolations.isViolationOf(e, Season.NAME_UK)) {
+                throw new SeasonAlreadyExistsException(seasonName);
+            }
+            throw e;
+        }
+        SeasonData seasonData = toSeasonData(season);
+        applicationEventPublisher.publishEvent(new SeasonCreatedEvent(seasonData));
+        return seasonData;
     }
 
     public SeasonData toSeasonData(Season season) {
@@ -5,9 +5,12 @@ import de.berlinerschachverband.bmm.basedata.data.thymeleaf.CreateTeamData;
 import de.berlinerschachverband.bmm.basedata.data.thymeleaf.CreateTeamsData;
 import de.berlinerschachverband.bmm.exceptions.TeamAlreadyExistsException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -42,6 +45,31 @@ public class TeamService {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Gets all teams that are assigned to a division of the given season with a single query,
+     * mapped by division id. The teams of each division are ordered by name.
+     *
+     * @param seasonData
+     * @return
+     */
+    public Map<Long, List<TeamData>> getTeamsByDivisionOfSeason(SeasonData seasonData) {
+        return teamRepository.findByDivision_Season_Id(seasonData.id())
+                .stream()
+                .map(this::toTeamData)
+                .sorted(Comparator.comparing(TeamData::name))
+                .collect(Collectors.groupingBy(teamData -> teamData.division().get().id(), Collectors.toList()));
+    }
+
+    /**
+     * Get a reference to a team by its id without loading it, e.g. for assigning it to new entities.
+     *
+     * @param teamId
+     * @return
+     */
+    public Team getTeamReference(Long teamId) {
+        return teamRepository.getOne(teamId);
+    }
+
     /**
      * Gets all available teams (not having a division and hence a season yet)
      * given the club name - ordered by team number.
@@ -63,7 +91,21 @@ public class TeamService {
      * @return
      */
     public Integer getNumberOfTeamsOfDivision(DivisionData divisionData) {
-        return teamRepository.findByDivision_Id(divisionData.id()).size();
+        return Math.toIntExact(teamRepository.countByDivision_Id(divisionData.id()));
+    }
+
+    /**
+     * Get the number of teams of all divisions of a season with a single query,
+     * mapped by division id. Divisions without teams are not contained.
+     *
+     * @param seasonData
+     * @return
+     */
+    public Map<Long, Integer> getNumberOfTeamsByDivisionOfSeason(SeasonData seasonData) {
+        return teamRepository.countTeamsByDivisionOfSeason(seasonData.id())
+                .stream()
+                .collect(Collectors.toMap(DivisionTeamCountData::divisionId,
+                        divisionTeamCount -> Math.toIntExact(divisionTeamCount.numberOfTeams())));
     }
 
     /**
@@ -93,20 +135,32 @@ public class TeamService {
      * Given the name of a club and a number, creates this many teams for the club.
      * Numbers of the teams goes from 1 up to the given number. If any of these
      * teams already exists, they are skipped during creation process.
+     * The existing teams of the club are loaded with a single query and the new teams
+     * are inserted in JDBC batches.
      *
      * @param createTeamsData
      */
+    @Transactional
     public void createTeams(CreateTeamsData createTeamsData) {
+        Set<Integer> existingTeamNumbers = teamRepository.findByClub_NameAndDivisionIsNull(createTeamsData.getClubName())
+                .stream()
+                .map(Team::getNumber)
+                .collect(Collectors.toSet());
+        List<Team> newTeams = new ArrayList<>();
+        Club club = null;
         for (int teamNumber = 1; teamNumber <= createTeamsData.getNumberOfTeams(); teamNumber++) {
-            try {
-                CreateTeamData createTeamData = new CreateTeamData();
-                createTeamData.setClubName(createTeamsData.getClubName());
-                createTeamData.setNumber(teamNumber);
-                createTeam(createTeamData);
-            } catch(TeamAlreadyExistsException ex) {
-                //continue;
+            if(existingTeamNumbers.contains(teamNumber)) {
+                continue;
+            }
+            if(club == null) {
+                club = clubService.getClub(createTeamsData.getClubName());
             }
+            Team team = new Team();
+            team.setClub(club);
+            team.setNumber(teamNumber);
+            newTeams.add(team);
         }
+        teamRepository.saveAll(newTeams);
     }
 
     /**
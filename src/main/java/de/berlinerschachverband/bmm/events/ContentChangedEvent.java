@@ -0,0 +1,10 @@
+package de.berlinerschachverband.bmm.events;
+
+import java.util.Optional;
+
+/**
+ * Published whenever publicly visible content of a season changes. If no division name is given,
+ * the season overview changed, otherwise the page of the given division.
+ */
+public record ContentChangedEvent(String seasonName, Optional<String> divisionName) {
+}
@@ -0,0 +1,7 @@
+package de.berlinerschachverband.bmm.events;
+
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.resultdata.data.MatchScoreData;
+
+public record MatchResultSubmittedEvent(DivisionData divisionData, MatchScoreData matchScore) {
+}
@@ -0,0 +1,6 @@
+package de.berlinerschachverband.bmm.events;
+
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+
+public record SeasonCreatedEvent(SeasonData seasonData) {
+}
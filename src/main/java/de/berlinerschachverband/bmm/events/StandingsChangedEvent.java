@@ -0,0 +1,15 @@
+package de.berlinerschachverband.bmm.events;
+
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.resultdata.data.MatchScoreData;
+import de.berlinerschachverband.bmm.resultdata.data.thymeleaf.RegularDivisionTableData;
+
+import java.util.List;
+
+/**
+ * Published once the standings of a division were updated with a match score.
+ */
+public record StandingsChangedEvent(DivisionData divisionData,
+                                    MatchScoreData matchScore,
+                                    List<RegularDivisionTableData> table) {
+}
@@ -0,0 +1,8 @@
+package de.berlinerschachverband.bmm.exceptions;
+
+public class ClubAdminNotFoundException extends BmmException {
+
+    public ClubAdminNotFoundException(String username, String clubName) {
+        super("User %s is no admin of club %s".formatted(username, clubName));
+    }
+}
@@ -0,0 +1,30 @@
+package de.berlinerschachverband.bmm.exceptions;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Check whether a DataIntegrityViolationException was caused by the violation of the named constraint.
+     * The database reports the constraint name in the message of the cause, e.g.
+     * "Duplicate entry '1-1-2' for key 'BOARD_RESULT_MATCH_BOARD_REVISION_UK'".
+     * @param exception
+     * @param constraintName
+     * @return
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        String upperCaseConstraintName = constraintName.toUpperCase(Locale.ROOT);
+        for(Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if(cause.getMessage() != null
+                    && cause.getMessage().toUpperCase(Locale.ROOT).contains(upperCaseConstraintName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,8 @@
+package de.berlinerschachverband.bmm.exceptions;
+
+public class MatchNotFoundException extends BmmException{
+
+    public MatchNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package de.berlinerschachverband.bmm.exceptions;
+
+public class MatchResultOutdatedException extends BmmException{
+
+    public MatchResultOutdatedException(String message) {
+        super(message);
+    }
+}
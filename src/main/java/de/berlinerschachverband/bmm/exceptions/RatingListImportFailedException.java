@@ -0,0 +1,8 @@
+package de.berlinerschachverband.bmm.exceptions;
+
+public class RatingListImportFailedException extends BmmException {
+
+    public RatingListImportFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package de.berlinerschachverband.bmm.exceptions;
+
+public class RosterImportFailedException extends BmmException {
+
+    public RosterImportFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package de.berlinerschachverband.bmm.navigation;
+
+import de.berlinerschachverband.bmm.navigation.controller.PageCacheFilter;
+import de.berlinerschachverband.bmm.navigation.service.PageCacheService;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the PageCacheFilter for the public season and division pages only,
+ * administration pages never pass through it.
+ */
+@Configuration
+public class PageCacheConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<PageCacheFilter> pageCacheFilter(PageCacheService pageCacheService) {
+        FilterRegistrationBean<PageCacheFilter> registration = new FilterRegistrationBean<>(new PageCacheFilter(pageCacheService));
+        registration.addUrlPatterns("/season/*", "/division/*");
+        return registration;
+    }
+}
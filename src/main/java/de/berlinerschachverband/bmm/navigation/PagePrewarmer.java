@@ -0,0 +1,79 @@
+package de.berlinerschachverband.bmm.navigation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+/**
+ * Requests some public pages once the port is open, so that the first visitors after a restart do not pay for
+ * initializing the lazy beans, the JPA repositories, the security filter chain and the Thymeleaf templates.
+ * The pages are requested on a thread of their own, the application serves requests meanwhile.
+ * With bmm.prewarm.exit=true the application shuts down afterwards, which the cds build profile uses to record
+ * the classes of a warmed up application.
+ */
+@Component
+@ConditionalOnProperty(name = "bmm.prewarm.enabled", havingValue = "true")
+public class PagePrewarmer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PagePrewarmer.class);
+
+    private final List<String> paths;
+
+    private final boolean exitAfterPrewarm;
+
+    public PagePrewarmer(@Value("${bmm.prewarm.paths:/home}") List<String> paths,
+                         @Value("${bmm.prewarm.exit:false}") boolean exitAfterPrewarm) {
+        this.paths = paths;
+        this.exitAfterPrewarm = exitAfterPrewarm;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent applicationReadyEvent) {
+        ConfigurableApplicationContext context = applicationReadyEvent.getApplicationContext();
+        if(!(context instanceof WebServerApplicationContext webServerApplicationContext)) {
+            return;
+        }
+        int port = webServerApplicationContext.getWebServer().getPort();
+        Thread prewarmThread = new Thread(() -> {
+            prewarm(port);
+            if(exitAfterPrewarm) {
+                System.exit(SpringApplication.exit(context));
+            }
+        }, "page-prewarmer");
+        prewarmThread.setDaemon(!exitAfterPrewarm);
+        prewarmThread.start();
+    }
+
+    private void prewarm(int port) {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        for(String path : paths) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(
+                        HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                LOGGER.info("Prewarmed {} with status {} in {} ms", path, response.statusCode(),
+                        (System.nanoTime() - start) / 1_000_000);
+            } catch (IOException e) {
+                LOGGER.warn("Could not prewarm {}", path, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -1,12 +1,9 @@
 package de.berlinerschachverband.bmm.navigation.controller;
 
-import de.berlinerschachverband.bmm.basedata.data.ClubData;
 import de.berlinerschachverband.bmm.basedata.service.ClubService;
 import de.berlinerschachverband.bmm.navigation.service.AdministrationService;
-import de.berlinerschachverband.bmm.navigation.service.NavbarService;
 import de.berlinerschachverband.bmm.security.Roles;
-import de.berlinerschachverband.bmm.security.service.ClubAdminService;
-import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
@@ -20,25 +17,18 @@ import java.util.List;
 @Controller
 public class AdministrationController {
 
-    private final NavbarService navbarService;
     private final ClubService clubService;
     private final AdministrationService administrationService;
-    private final ClubAdminService clubAdminService;
 
-    public AdministrationController(NavbarService navbarService,
-                                    ClubService clubService,
-                                    AdministrationService administrationService,
-                                    ClubAdminService clubAdminService) {
-        this.navbarService = navbarService;
+    public AdministrationController(ClubService clubService,
+                                    AdministrationService administrationService) {
         this.clubService = clubService;
         this.administrationService = administrationService;
-        this.clubAdminService = clubAdminService;
     }
 
     @RolesAllowed({Roles.ADMINISTRATOR, Roles.CLUB_ADMIN, Roles.TEAM_ADMIN})
     @GetMapping(value = "/administration")
     public String admin(final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         List<String> roles = SecurityContextHolder.getContext().getAuthentication().getAuthorities()
                 .stream().map(GrantedAuthority::getAuthority).toList();
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -46,18 +36,15 @@ public class AdministrationController {
         return "administration";
     }
 
-    @RolesAllowed({Roles.CLUB_ADMIN})
+    /**
+     * The club admin page of a club. Access is checked against the clubs of the principal, without database access.
+     * @param clubName
+     * @param model
+     * @return
+     */
+    @PreAuthorize("hasAuthority('" + Roles.CLUB_ADMIN + "') and @clubAdminAuthorization.isClubAdmin(authentication, #clubName)")
     @GetMapping(value = "/administration/club/{clubName}")
     public String clubAdmin(@PathVariable final String clubName, final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        if(!clubAdminService.findClubsByUsername(username)
-                .stream()
-                .map(ClubData::name)
-                .toList()
-                .contains(clubName)) {
-            throw new AccessDeniedException("User %s is no clubAdmin for club %s".formatted(username, clubName));
-        }
         model.addAttribute("club", clubService.toClubData(clubService.getClub(clubName)));
         return "clubAdministration";
     }
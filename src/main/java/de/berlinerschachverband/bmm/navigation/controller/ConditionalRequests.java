@@ -0,0 +1,29 @@
+package de.berlinerschachverband.bmm.navigation.controller;
+
+import de.berlinerschachverband.bmm.navigation.data.ContentVersionData;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Answers conditional GET requests of public pages.
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Sets ETag, Last-Modified and Cache-Control of the response. Browsers and proxies may store the page,
+     * but have to revalidate it on every use. Returns true if the client's copy is still valid, in which case
+     * the response status is set to 304 and the controller must not render the page.
+     * @param servletWebRequest
+     * @param contentVersionData
+     * @return
+     */
+    public static boolean checkNotModified(ServletWebRequest servletWebRequest, ContentVersionData contentVersionData) {
+        servletWebRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.noCache().cachePublic().getHeaderValue());
+        return servletWebRequest.checkNotModified(contentVersionData.eTag(), contentVersionData.lastModified());
+    }
+}
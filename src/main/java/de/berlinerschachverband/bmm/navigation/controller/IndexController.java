@@ -1,6 +1,5 @@
 package de.berlinerschachverband.bmm.navigation.controller;
 
-import de.berlinerschachverband.bmm.navigation.service.NavbarService;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,12 +7,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 @Controller
 public class IndexController {
 
-    private final NavbarService navbarService;
-
-    public IndexController(NavbarService navbarService) {
-        this.navbarService = navbarService;
-    }
-
     @GetMapping(value = {"/", "/index.html"})
     public String toHome() {
         return "redirect:/home";
@@ -21,7 +14,6 @@ public class IndexController {
 
     @GetMapping(value = "/home")
     public String home(final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         return "home";
     }
 }
@@ -0,0 +1,24 @@
+package de.berlinerschachverband.bmm.navigation.controller;
+
+import de.berlinerschachverband.bmm.navigation.data.NavbarData;
+import de.berlinerschachverband.bmm.navigation.service.NavbarService;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ModelAttribute;
+
+/**
+ * Adds the navbar data to the model of every controller, so pages can render the navbar fragment.
+ */
+@ControllerAdvice
+public class NavbarControllerAdvice {
+
+    private final NavbarService navbarService;
+
+    public NavbarControllerAdvice(NavbarService navbarService) {
+        this.navbarService = navbarService;
+    }
+
+    @ModelAttribute("navbarData")
+    public NavbarData navbarData() {
+        return navbarService.getNavbarData();
+    }
+}
@@ -0,0 +1,77 @@
+package de.berlinerschachverband.bmm.navigation.controller;
+
+import de.berlinerschachverband.bmm.navigation.data.ContentVersionData;
+import de.berlinerschachverband.bmm.navigation.data.RenderedPageData;
+import de.berlinerschachverband.bmm.navigation.service.PageCacheService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Serves public season and division pages from the PageCacheService, so they are only rendered once
+ * per content version and locale. Any other page passes through, as do responses that are not plain
+ * successful HTML or set cookies.
+ */
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    private final PageCacheService pageCacheService;
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public PageCacheFilter(PageCacheService pageCacheService) {
+        this.pageCacheService = pageCacheService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        Optional<ContentVersionData> contentVersion = pageCacheService.getContentVersion(path);
+        if(contentVersion.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Locale locale = request.getLocale();
+        Optional<RenderedPageData> renderedPage = pageCacheService.getRenderedPage(path, locale, contentVersion.get());
+        if(renderedPage.isPresent()) {
+            if(!ConditionalRequests.checkNotModified(new ServletWebRequest(request, response), contentVersion.get())) {
+                response.setContentType(renderedPage.get().contentType());
+                response.setContentLength(renderedPage.get().body().length);
+                response.getOutputStream().write(renderedPage.get().body());
+            }
+            return;
+        }
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        if(isCacheable(responseWrapper)) {
+            pageCacheService.putRenderedPage(path, locale, contentVersion.get(),
+                    new RenderedPageData(responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private boolean isCacheable(ContentCachingResponseWrapper responseWrapper) {
+        return responseWrapper.getStatus() == HttpStatus.OK.value()
+                && responseWrapper.getContentType() != null
+                && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(responseWrapper.getContentType()))
+                && !responseWrapper.containsHeader(HttpHeaders.SET_COOKIE);
+    }
+}
@@ -0,0 +1,8 @@
+package de.berlinerschachverband.bmm.navigation.data;
+
+public record DivisionOverviewData(Long id,
+                                   String name,
+                                   Integer level,
+                                   int numberOfTeams,
+                                   int numberOfMatchDays) {
+}
@@ -0,0 +1,4 @@
+package de.berlinerschachverband.bmm.navigation.data;
+
+public record RenderedPageData(String contentType, byte[] body) {
+}
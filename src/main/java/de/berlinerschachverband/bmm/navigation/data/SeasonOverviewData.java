@@ -0,0 +1,13 @@
+package de.berlinerschachverband.bmm.navigation.data;
+
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Everything shown on the overview page of a season: its divisions by level, each level ordered by division name.
+ */
+public record SeasonOverviewData(SeasonData season,
+                                 SortedMap<Integer, List<DivisionOverviewData>> divisionsByLevel) {
+}
@@ -40,7 +40,8 @@ public class AdministrationService {
                 new AdministrationButtonData("/administration/createDivision", "Neue Staffel erstellen"),
                 new AdministrationButtonData("/clubs", "Alle Vereine anzeigen"),
                 new AdministrationButtonData("/clubs/create", "Neuen Verein erstellen"),
-                new AdministrationButtonData("/administration/createUser", "Neuen Benutzer erstellen")
+                new AdministrationButtonData("/administration/createUser", "Neuen Benutzer erstellen"),
+                new AdministrationButtonData("/administration/clubAdmins", "Vereinsadministratoren verwalten")
         );
     }
 
@@ -0,0 +1,106 @@
+package de.berlinerschachverband.bmm.navigation.service;
+
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
+import de.berlinerschachverband.bmm.events.SeasonCreatedEvent;
+import de.berlinerschachverband.bmm.navigation.data.ContentVersionData;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a version for the public pages of every season and division, from which ETags and Last-Modified
+ * headers are derived, so that unchanged pages can be answered with 304 without touching the database.
+ * Versions are bumped after the transaction that changed the content is committed. Since every page contains
+ * the navbar, creating a season changes all pages. Versions are only kept in memory, the ETags contain
+ * the start time of the application so that they do not repeat after a restart.
+ */
+@Service
+public class ContentVersionService {
+
+    private final Clock clock;
+
+    private final long startTime;
+
+    private volatile Version globalVersion;
+
+    private final Map<String, Version> versionByKey = new ConcurrentHashMap<>();
+
+    public ContentVersionService() {
+        this(Clock.systemUTC());
+    }
+
+    ContentVersionService(Clock clock) {
+        this.clock = clock;
+        this.startTime = clock.millis();
+        this.globalVersion = new Version(0, startTime);
+    }
+
+    /**
+     * Get the version of content that only changes with the list of seasons.
+     * @return
+     */
+    public ContentVersionData getGlobalVersion() {
+        return toContentVersionData(globalVersion);
+    }
+
+    /**
+     * Get the version of the overview page of a season.
+     * @param seasonName
+     * @return
+     */
+    public ContentVersionData getSeasonVersion(String seasonName) {
+        return toContentVersionData(globalVersion, getVersion(seasonName));
+    }
+
+    /**
+     * Get the version of the page of a division of a season.
+     * @param seasonName
+     * @param divisionName
+     * @return
+     */
+    public ContentVersionData getDivisionVersion(String seasonName, String divisionName) {
+        return toContentVersionData(globalVersion, getVersion(seasonName), getVersion(divisionKey(seasonName, divisionName)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent contentChangedEvent) {
+        String key = contentChangedEvent.divisionName()
+                .map(divisionName -> divisionKey(contentChangedEvent.seasonName(), divisionName))
+                .orElse(contentChangedEvent.seasonName());
+        versionByKey.compute(key, (k, version) -> next(version));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSeasonCreated(SeasonCreatedEvent seasonCreatedEvent) {
+        globalVersion = next(globalVersion);
+    }
+
+    private Version getVersion(String key) {
+        // unknown keys are not stored, so requests for pages that do not exist do not fill the map
+        return versionByKey.getOrDefault(key, new Version(0, startTime));
+    }
+
+    private Version next(Version version) {
+        return new Version(version == null ? 1 : version.counter() + 1, clock.millis());
+    }
+
+    private ContentVersionData toContentVersionData(Version... versions) {
+        StringBuilder eTag = new StringBuilder("\"").append(Long.toHexString(startTime));
+        long lastModified = startTime;
+        for(Version version : versions) {
+            eTag.append('-').append(Long.toHexString(version.counter()));
+            lastModified = Math.max(lastModified, version.lastModified());
+        }
+        return new ContentVersionData(eTag.append('"').toString(), lastModified);
+    }
+
+    private static String divisionKey(String seasonName, String divisionName) {
+        return seasonName + "/" + divisionName;
+    }
+
+    private record Version(long counter, long lastModified) {
+    }
+}
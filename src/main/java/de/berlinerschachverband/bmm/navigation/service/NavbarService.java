@@ -1,19 +1,55 @@
 package de.berlinerschachverband.bmm.navigation.service;
 
 import de.berlinerschachverband.bmm.basedata.service.SeasonService;
+import de.berlinerschachverband.bmm.events.SeasonCreatedEvent;
 import de.berlinerschachverband.bmm.navigation.data.NavbarData;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Provides the data shown in the navbar of every page. The data is loaded once and kept
+ * until it is invalidated, which happens whenever a season gets created.
+ */
 @Service
 public class NavbarService {
 
     private SeasonService seasonService;
 
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile CachedNavbarData cachedNavbarData;
+
     public NavbarService(SeasonService seasonService) {
         this.seasonService = seasonService;
     }
 
     public NavbarData getNavbarData() {
-        return new NavbarData(seasonService.getSeasonNames());
+        long currentGeneration = generation.get();
+        CachedNavbarData cached = cachedNavbarData;
+        if(cached != null && cached.generation() == currentGeneration) {
+            return cached.navbarData();
+        }
+        NavbarData navbarData = new NavbarData(seasonService.getSeasonNames());
+        // If an invalidation happens while loading, the stored generation is outdated already
+        // and the next call loads the navbar data again.
+        cachedNavbarData = new CachedNavbarData(currentGeneration, navbarData);
+        return navbarData;
+    }
+
+    /**
+     * Drop the cached navbar data, it is loaded again on next access.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    @EventListener
+    public void onSeasonCreated(SeasonCreatedEvent seasonCreatedEvent) {
+        invalidate();
+    }
+
+    private record CachedNavbarData(long generation, NavbarData navbarData) {
     }
 }
@@ -0,0 +1,78 @@
+package de.berlinerschachverband.bmm.navigation.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
+import de.berlinerschachverband.bmm.events.SeasonCreatedEvent;
+import de.berlinerschachverband.bmm.navigation.data.ContentVersionData;
+import de.berlinerschachverband.bmm.navigation.data.RenderedPageData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Keeps the rendered HTML of the public season and division pages. Pages are stored under the content
+ * version they were rendered for, so a page is never served after its content changed. Entries of a season
+ * are dropped as soon as its content changes, all entries when a season is created. The total size of
+ * the stored pages is bounded by bmm.page-cache.maximum-bytes, least recently used pages are evicted first.
+ */
+@Service
+public class PageCacheService {
+
+    private final ContentVersionService contentVersionService;
+
+    private final Cache<PageKey, RenderedPageData> renderedPages;
+
+    public PageCacheService(ContentVersionService contentVersionService,
+                            @Value("${bmm.page-cache.maximum-bytes:16777216}") long maximumBytes) {
+        this.contentVersionService = contentVersionService;
+        this.renderedPages = CacheBuilder.newBuilder()
+                .maximumWeight(maximumBytes)
+                .<PageKey, RenderedPageData>weigher((pageKey, renderedPage) -> renderedPage.body().length)
+                .build();
+    }
+
+    /**
+     * Get the current content version of the page with the given path, if it is a cacheable public page.
+     * @param path
+     * @return
+     */
+    public Optional<ContentVersionData> getContentVersion(String path) {
+        String[] segments = path.split("/");
+        if(segments.length == 3 && segments[1].equals("season")) {
+            return Optional.of(contentVersionService.getSeasonVersion(segments[2]));
+        }
+        if(segments.length == 4 && segments[1].equals("division")) {
+            return Optional.of(contentVersionService.getDivisionVersion(segments[2], segments[3]));
+        }
+        return Optional.empty();
+    }
+
+    public Optional<RenderedPageData> getRenderedPage(String path, Locale locale, ContentVersionData contentVersionData) {
+        return Optional.ofNullable(renderedPages.getIfPresent(new PageKey(seasonName(path), path, locale, contentVersionData.eTag())));
+    }
+
+    public void putRenderedPage(String path, Locale locale, ContentVersionData contentVersionData, RenderedPageData renderedPage) {
+        renderedPages.put(new PageKey(seasonName(path), path, locale, contentVersionData.eTag()), renderedPage);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent contentChangedEvent) {
+        renderedPages.asMap().keySet().removeIf(pageKey -> pageKey.seasonName().equals(contentChangedEvent.seasonName()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeasonCreated(SeasonCreatedEvent seasonCreatedEvent) {
+        renderedPages.invalidateAll();
+    }
+
+    private static String seasonName(String path) {
+        return path.split("/")[2];
+    }
+
+    private record PageKey(String seasonName, String path, Locale locale, String eTag) {
+    }
+}
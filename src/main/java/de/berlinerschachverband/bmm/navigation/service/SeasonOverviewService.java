@@ -0,0 +1,94 @@
+package de.berlinerschachverband.bmm.navigation.service;
+
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.basedata.service.SeasonService;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
+import de.berlinerschachverband.bmm.navigation.data.DivisionOverviewData;
+import de.berlinerschachverband.bmm.navigation.data.SeasonOverviewData;
+import de.berlinerschachverband.bmm.resultdata.service.MatchDayService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the overview of every requested season in memory, so that the season page is a single map lookup.
+ * An overview is built from one query each for the season, its divisions, their team counts and their
+ * match day counts. It is dropped after a transaction changed the overview of its season and is built again
+ * on next access.
+ */
+@Service
+public class SeasonOverviewService {
+
+    private final SeasonService seasonService;
+
+    private final DivisionService divisionService;
+
+    private final TeamService teamService;
+
+    private final MatchDayService matchDayService;
+
+    private final Map<String, SeasonOverviewData> overviewBySeasonName = new ConcurrentHashMap<>();
+
+    public SeasonOverviewService(SeasonService seasonService,
+                                 DivisionService divisionService,
+                                 TeamService teamService,
+                                 MatchDayService matchDayService) {
+        this.seasonService = seasonService;
+        this.divisionService = divisionService;
+        this.teamService = teamService;
+        this.matchDayService = matchDayService;
+    }
+
+    /**
+     * Get the overview of a season. If the season does not exist, a SeasonNotFoundException is thrown.
+     * @param seasonName
+     * @return
+     */
+    public SeasonOverviewData getSeasonOverview(String seasonName) {
+        // a concurrent invalidation of the same season waits until the overview is stored, then drops it
+        return overviewBySeasonName.computeIfAbsent(seasonName, this::loadSeasonOverview);
+    }
+
+    /**
+     * Drop the overview of a season, it is built again on next access.
+     * @param seasonName
+     */
+    public void invalidate(String seasonName) {
+        overviewBySeasonName.remove(seasonName);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent contentChangedEvent) {
+        if(contentChangedEvent.divisionName().isEmpty()) {
+            invalidate(contentChangedEvent.seasonName());
+        }
+    }
+
+    private SeasonOverviewData loadSeasonOverview(String seasonName) {
+        SeasonData seasonData = seasonService.toSeasonData(seasonService.getSeason(seasonName));
+        Map<Long, Integer> numberOfTeams = teamService.getNumberOfTeamsByDivisionOfSeason(seasonData);
+        Map<Long, Integer> numberOfMatchDays = matchDayService.getNumberOfMatchDaysByDivisionOfSeason(seasonData);
+        SortedMap<Integer, List<DivisionOverviewData>> divisionsByLevel = divisionService.getDivisionsOfSeason(seasonData)
+                .stream()
+                .sorted(Comparator.comparing(DivisionData::name))
+                .map(divisionData -> new DivisionOverviewData(divisionData.id(),
+                        divisionData.name(),
+                        divisionData.level(),
+                        numberOfTeams.getOrDefault(divisionData.id(), 0),
+                        numberOfMatchDays.getOrDefault(divisionData.id(), 0)))
+                .collect(Collectors.groupingBy(DivisionOverviewData::level, TreeMap::new,
+                        Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+        return new SeasonOverviewData(seasonData, Collections.unmodifiableSortedMap(divisionsByLevel));
+    }
+}
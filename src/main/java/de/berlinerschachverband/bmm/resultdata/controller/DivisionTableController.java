@@ -0,0 +1,44 @@
+package de.berlinerschachverband.bmm.resultdata.controller;
+
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.navigation.controller.ConditionalRequests;
+import de.berlinerschachverband.bmm.navigation.service.ContentVersionService;
+import de.berlinerschachverband.bmm.resultdata.service.TableService;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@Controller
+public class DivisionTableController {
+
+    private final DivisionService divisionService;
+    private final TableService tableService;
+    private final ContentVersionService contentVersionService;
+
+    public DivisionTableController(DivisionService divisionService,
+                                   TableService tableService,
+                                   ContentVersionService contentVersionService) {
+        this.divisionService = divisionService;
+        this.tableService = tableService;
+        this.contentVersionService = contentVersionService;
+    }
+
+    @GetMapping(value = "/division/{seasonName}/{divisionName}")
+    public String getDivision(@PathVariable final String seasonName,
+                              @PathVariable final String divisionName,
+                              final ServletWebRequest servletWebRequest,
+                              final Model model) {
+        if(ConditionalRequests.checkNotModified(servletWebRequest,
+                contentVersionService.getDivisionVersion(seasonName, divisionName))) {
+            return null;
+        }
+        DivisionData divisionData = divisionService.toDivisionData(
+                divisionService.getDivisionByNameAndSeasonName(divisionName, seasonName));
+        model.addAttribute("division", divisionData);
+        model.addAttribute("table", tableService.getRegularTable(divisionData));
+        return "division";
+    }
+}
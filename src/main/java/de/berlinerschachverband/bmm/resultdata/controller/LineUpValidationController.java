@@ -0,0 +1,52 @@
+package de.berlinerschachverband.bmm.resultdata.controller;
+
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.resultdata.service.LineUpValidationService;
+import de.berlinerschachverband.bmm.security.Roles;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import javax.annotation.security.RolesAllowed;
+import java.util.stream.Collectors;
+
+@Controller
+public class LineUpValidationController {
+
+    private final DivisionService divisionService;
+    private final TeamService teamService;
+    private final LineUpValidationService lineUpValidationService;
+
+    public LineUpValidationController(DivisionService divisionService,
+                                      TeamService teamService,
+                                      LineUpValidationService lineUpValidationService) {
+        this.divisionService = divisionService;
+        this.teamService = teamService;
+        this.lineUpValidationService = lineUpValidationService;
+    }
+
+    /**
+     * The violations of the line-ups of a division against the rosters of its clubs, per match day.
+     * @param seasonName
+     * @param divisionName
+     * @param model
+     * @return
+     */
+    @RolesAllowed(Roles.ADMINISTRATOR)
+    @GetMapping(value = "/administration/division/{seasonName}/{divisionName}/lineUps")
+    public String validateLineUps(@PathVariable final String seasonName,
+                                  @PathVariable final String divisionName,
+                                  final Model model) {
+        DivisionData divisionData = divisionService.toDivisionData(
+                divisionService.getDivisionByNameAndSeasonName(divisionName, seasonName));
+        model.addAttribute("division", divisionData);
+        model.addAttribute("teamNames", teamService.getTeamsOfDivision(divisionData).stream()
+                .collect(Collectors.toMap(TeamData::id, TeamData::name)));
+        model.addAttribute("matchDays", lineUpValidationService.validateLineUps(divisionData));
+        return "lineUpValidation";
+    }
+}
@@ -0,0 +1,29 @@
+package de.berlinerschachverband.bmm.resultdata.controller;
+
+import de.berlinerschachverband.bmm.resultdata.service.LiveTickerService;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Controller
+public class LiveTickerController {
+
+    private final LiveTickerService liveTickerService;
+
+    public LiveTickerController(LiveTickerService liveTickerService) {
+        this.liveTickerService = liveTickerService;
+    }
+
+    @GetMapping(value = "/division/{seasonName}/{divisionName}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getDivisionLiveTicker(@PathVariable final String seasonName,
+                                            @PathVariable final String divisionName) {
+        return liveTickerService.subscribeToDivision(seasonName, divisionName);
+    }
+
+    @GetMapping(value = "/season/{seasonName}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getSeasonLiveTicker(@PathVariable final String seasonName) {
+        return liveTickerService.subscribeToSeason(seasonName);
+    }
+}
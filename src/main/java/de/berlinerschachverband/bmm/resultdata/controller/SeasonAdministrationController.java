@@ -2,40 +2,73 @@ package de.berlinerschachverband.bmm.resultdata.controller;
 
 import de.berlinerschachverband.bmm.basedata.data.SeasonData;
 import de.berlinerschachverband.bmm.basedata.service.SeasonService;
-import de.berlinerschachverband.bmm.navigation.service.NavbarService;
+import de.berlinerschachverband.bmm.exceptions.RosterImportFailedException;
 import de.berlinerschachverband.bmm.resultdata.service.MatchDayService;
+import de.berlinerschachverband.bmm.resultdata.service.RosterImportService;
+import de.berlinerschachverband.bmm.security.Roles;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.security.RolesAllowed;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 
 @Controller
 public class SeasonAdministrationController {
 
-    private final NavbarService navbarService;
     private final MatchDayService matchDayService;
     private final SeasonService seasonService;
+    private final RosterImportService rosterImportService;
 
-    public SeasonAdministrationController(NavbarService navbarService,
-                                          MatchDayService matchDayService,
-                                          SeasonService seasonService) {
-        this.navbarService = navbarService;
+    public SeasonAdministrationController(MatchDayService matchDayService,
+                                          SeasonService seasonService,
+                                          RosterImportService rosterImportService) {
         this.matchDayService = matchDayService;
         this.seasonService = seasonService;
+        this.rosterImportService = rosterImportService;
     }
 
     @GetMapping(value = "/administration/season/{seasonName}")
     public String getSeasonAdministrationOverview(@PathVariable  final String seasonName, final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         return "seasonAdministration";
     }
 
     @PostMapping(value = "administration/season/{seasonName}/createMatchDays")
     public String createMatchDaysForSeason(@PathVariable final String seasonName, final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         SeasonData seasonData = seasonService.toSeasonData(seasonService.getSeason(seasonName));
-        matchDayService.createRoundRobinMatchDaysForSeason(seasonData);
+        model.addAttribute("season", seasonData);
+        model.addAttribute("report", matchDayService.createRoundRobinMatchDaysForSeason(seasonData));
         return "matchDaysCreated";
     }
+
+    @RolesAllowed(Roles.ADMINISTRATOR)
+    @GetMapping(value = "/administration/season/{seasonName}/importRosters")
+    public String importRosters(@PathVariable final String seasonName, final Model model) {
+        model.addAttribute("season", seasonService.toSeasonData(seasonService.getSeason(seasonName)));
+        return "importRosters";
+    }
+
+    @RolesAllowed(Roles.ADMINISTRATOR)
+    @PostMapping(value = "/administration/season/{seasonName}/importRosters")
+    public String importRosters(@PathVariable final String seasonName,
+                                @RequestParam("file") final MultipartFile file,
+                                final Model model) {
+        SeasonData seasonData = seasonService.toSeasonData(seasonService.getSeason(seasonName));
+        model.addAttribute("season", seasonData);
+        try (Reader csv = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            model.addAttribute("report", rosterImportService.importRosters(seasonData, csv));
+            model.addAttribute("state", "success");
+        } catch (IOException | RosterImportFailedException ex) {
+            model.addAttribute("errorMessage", ex.getMessage());
+            model.addAttribute("state", "failure");
+        }
+        return "rostersImported";
+    }
 }
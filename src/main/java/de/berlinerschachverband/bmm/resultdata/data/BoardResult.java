@@ -0,0 +1,111 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import org.springframework.lang.NonNull;
+
+import javax.persistence.*;
+
+/**
+ * The result of a single board of a match. Board results are never updated, a corrected result of a match
+ * is stored as a new revision of all of its boards. The current result of a match is its highest revision.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = BoardResult.MATCH_BOARD_REVISION_UK,
+        columnNames = {"match_id", "board_number", "revision"}))
+public class BoardResult {
+
+    public static final String MATCH_BOARD_REVISION_UK = "BOARD_RESULT_MATCH_BOARD_REVISION_UK";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_result_sequence")
+    @SequenceGenerator(name = "board_result_sequence", sequenceName = "board_result_sequence", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "match_id",
+            foreignKey = @ForeignKey(name = "BOARD_RESULT_MATCH_ID_FK"),
+            nullable = false)
+    private Match match;
+
+    @Column(name = "board_number", nullable = false)
+    private Integer boardNumber;
+
+    @Column(nullable = false)
+    private Integer revision;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "home_player_id",
+            foreignKey = @ForeignKey(name = "BOARD_RESULT_HOME_PLAYER_ID_FK"),
+            nullable = true)
+    private Player homePlayer;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "away_player_id",
+            foreignKey = @ForeignKey(name = "BOARD_RESULT_AWAY_PLAYER_ID_FK"),
+            nullable = true)
+    private Player awayPlayer;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BoardResultType result;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @NonNull
+    public Match getMatch() {
+        return match;
+    }
+
+    public void setMatch(@NonNull Match match) {
+        this.match = match;
+    }
+
+    @NonNull
+    public Integer getBoardNumber() {
+        return boardNumber;
+    }
+
+    public void setBoardNumber(@NonNull Integer boardNumber) {
+        this.boardNumber = boardNumber;
+    }
+
+    @NonNull
+    public Integer getRevision() {
+        return revision;
+    }
+
+    public void setRevision(@NonNull Integer revision) {
+        this.revision = revision;
+    }
+
+    public Player getHomePlayer() {
+        return homePlayer;
+    }
+
+    public void setHomePlayer(Player homePlayer) {
+        this.homePlayer = homePlayer;
+    }
+
+    public Player getAwayPlayer() {
+        return awayPlayer;
+    }
+
+    public void setAwayPlayer(Player awayPlayer) {
+        this.awayPlayer = awayPlayer;
+    }
+
+    @NonNull
+    public BoardResultType getResult() {
+        return result;
+    }
+
+    public void setResult(@NonNull BoardResultType result) {
+        this.result = result;
+    }
+}
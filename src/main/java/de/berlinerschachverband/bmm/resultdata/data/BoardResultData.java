@@ -0,0 +1,9 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import java.util.Optional;
+
+public record BoardResultData(Integer boardNumber,
+                              Optional<Long> homePlayerId,
+                              Optional<Long> awayPlayerId,
+                              BoardResultType result) {
+}
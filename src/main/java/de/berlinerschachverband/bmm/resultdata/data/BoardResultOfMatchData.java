@@ -0,0 +1,11 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+/**
+ * A board result together with the teams of its match, as needed for computing standings.
+ */
+public record BoardResultOfMatchData(Long matchId,
+                                     Integer revision,
+                                     Long homeTeamId,
+                                     Long awayTeamId,
+                                     BoardResultType result) {
+}
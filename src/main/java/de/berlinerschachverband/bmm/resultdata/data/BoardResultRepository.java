@@ -0,0 +1,33 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BoardResultRepository extends JpaRepository<BoardResult, Long> {
+
+    @Query("select max(b.revision) from BoardResult b where b.match.id = :matchId")
+    Optional<Integer> findLatestRevisionOfMatch(@Param("matchId") Long matchId);
+
+    List<BoardResult> findByMatch_IdAndRevisionOrderByBoardNumber(Long matchId, Integer revision);
+
+    @Query("select new de.berlinerschachverband.bmm.resultdata.data.BoardResultOfMatchData(" +
+            "b.match.id, b.revision, b.match.homeTeam.id, b.match.awayTeam.id, b.result) " +
+            "from BoardResult b where b.match.matchDay.division.id = :divisionId " +
+            "and b.revision = (select max(l.revision) from BoardResult l where l.match = b.match)")
+    List<BoardResultOfMatchData> findLatestBoardResultsOfDivision(@Param("divisionId") Long divisionId);
+
+    @Query("select new de.berlinerschachverband.bmm.resultdata.data.LineUpBoardData(" +
+            "b.match.matchDay.matchDayNumber, b.match.id, b.match.homeTeam.id, b.match.awayTeam.id, b.boardNumber, " +
+            "h.id, a.id) " +
+            "from BoardResult b left join b.homePlayer h left join b.awayPlayer a " +
+            "where b.match.matchDay.division.id = :divisionId " +
+            "and b.revision = (select max(l.revision) from BoardResult l where l.match = b.match) " +
+            "order by b.match.matchDay.matchDayNumber, b.match.id, b.boardNumber")
+    List<LineUpBoardData> findLatestLineUpsOfDivision(@Param("divisionId") Long divisionId);
+}
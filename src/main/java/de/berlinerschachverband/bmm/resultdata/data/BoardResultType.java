@@ -0,0 +1,30 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+/**
+ * Possible results of a single board. Points are given as half points, i.e. a draw gives 1 half point to each side.
+ */
+public enum BoardResultType {
+
+    HOME_WIN(2, 0),
+    DRAW(1, 1),
+    AWAY_WIN(0, 2),
+    HOME_WIN_BY_FORFEIT(2, 0),
+    AWAY_WIN_BY_FORFEIT(0, 2),
+    DOUBLE_FORFEIT(0, 0);
+
+    private final int homeHalfPoints;
+    private final int awayHalfPoints;
+
+    BoardResultType(int homeHalfPoints, int awayHalfPoints) {
+        this.homeHalfPoints = homeHalfPoints;
+        this.awayHalfPoints = awayHalfPoints;
+    }
+
+    public int getHomeHalfPoints() {
+        return homeHalfPoints;
+    }
+
+    public int getAwayHalfPoints() {
+        return awayHalfPoints;
+    }
+}
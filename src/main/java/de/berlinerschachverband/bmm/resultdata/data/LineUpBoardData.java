@@ -0,0 +1,14 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+/**
+ * A board of the current result of a match, with the players of both teams. The player ids are null
+ * for boards that were not taken.
+ */
+public record LineUpBoardData(Integer matchDayNumber,
+                              Long matchId,
+                              Long homeTeamId,
+                              Long awayTeamId,
+                              Integer boardNumber,
+                              Long homePlayerId,
+                              Long awayPlayerId) {
+}
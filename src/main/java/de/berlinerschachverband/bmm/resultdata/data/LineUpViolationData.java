@@ -0,0 +1,8 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+public record LineUpViolationData(Long matchId,
+                                  Long teamId,
+                                  Integer boardNumber,
+                                  Long playerId,
+                                  LineUpViolationType type) {
+}
@@ -0,0 +1,24 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+/**
+ * Rule violations of a line-up, together with their description as shown to the users.
+ */
+public enum LineUpViolationType {
+
+    NOT_ON_ROSTER("Spieler steht nicht auf der Meldeliste des Vereins"),
+    ILLEGAL_SUBSTITUTION("Spieler einer höheren Mannschaft darf nicht in einer niedrigeren Mannschaft spielen"),
+    BOARD_ORDER("Spieler steht auf der Meldeliste vor dem Spieler eines höheren Bretts"),
+    RATING_ORDER("Wertungszahl übersteigt die des Spielers eines höheren Bretts um mehr als die Toleranz"),
+    PLAYED_TWICE_ON_MATCH_DAY("Spieler hat an diesem Spieltag bereits gespielt"),
+    PLAYED_FOR_TWO_TEAMS("Spieler hat in dieser Staffel bereits für eine andere Mannschaft gespielt");
+
+    private final String description;
+
+    LineUpViolationType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
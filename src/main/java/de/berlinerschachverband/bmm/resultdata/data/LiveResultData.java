@@ -0,0 +1,14 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import de.berlinerschachverband.bmm.resultdata.data.thymeleaf.RegularDivisionTableData;
+
+import java.util.List;
+
+/**
+ * A result pushed to live ticker subscribers, together with the updated table of its division.
+ */
+public record LiveResultData(String seasonName,
+                             String divisionName,
+                             MatchScoreData matchScore,
+                             List<RegularDivisionTableData> table) {
+}
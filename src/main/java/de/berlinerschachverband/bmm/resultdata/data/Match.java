@@ -0,0 +1,72 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import de.berlinerschachverband.bmm.basedata.data.Team;
+import org.springframework.lang.NonNull;
+
+import javax.persistence.*;
+
+/**
+ * A match between two teams on a match day. The table is not called "match", since that is a reserved word in MariaDB.
+ */
+@Entity
+@Table(name = "team_match")
+public class Match {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_sequence")
+    @SequenceGenerator(name = "match_sequence", sequenceName = "match_sequence", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "match_day_id",
+            foreignKey = @ForeignKey(name = "MATCH_MATCHDAY_ID_FK"),
+            nullable = false)
+    private MatchDay matchDay;
+
+    @ManyToOne
+    @JoinColumn(name = "home_team_id",
+            foreignKey = @ForeignKey(name = "MATCH_HOME_TEAM_ID_FK"),
+            nullable = false)
+    private Team homeTeam;
+
+    @ManyToOne
+    @JoinColumn(name = "away_team_id",
+            foreignKey = @ForeignKey(name = "MATCH_AWAY_TEAM_ID_FK"),
+            nullable = false)
+    private Team awayTeam;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @NonNull
+    public MatchDay getMatchDay() {
+        return matchDay;
+    }
+
+    public void setMatchDay(@NonNull MatchDay matchDay) {
+        this.matchDay = matchDay;
+    }
+
+    @NonNull
+    public Team getHomeTeam() {
+        return homeTeam;
+    }
+
+    public void setHomeTeam(@NonNull Team homeTeam) {
+        this.homeTeam = homeTeam;
+    }
+
+    @NonNull
+    public Team getAwayTeam() {
+        return awayTeam;
+    }
+
+    public void setAwayTeam(@NonNull Team awayTeam) {
+        this.awayTeam = awayTeam;
+    }
+}
@@ -0,0 +1,9 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+
+public record MatchData(Long id,
+                        MatchDayData matchDay,
+                        TeamData homeTeam,
+                        TeamData awayTeam) {
+}
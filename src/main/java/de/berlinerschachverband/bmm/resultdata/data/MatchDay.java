@@ -5,13 +5,17 @@ import de.berlinerschachverband.bmm.basedata.data.Division;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "MATCH_DAY_DIVISION_NUMBER_UK",
+        columnNames = {"division_id", "match_day_number"}))
 public class MatchDay {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_day_sequence")
+    @SequenceGenerator(name = "match_day_sequence", sequenceName = "match_day_sequence", allocationSize = 50)
     private Long id;
 
-    @Column(unique = false, nullable = false)
+    @Column(name = "match_day_number", unique = false, nullable = false)
     private Integer matchDayNumber;
 
     @ManyToOne
@@ -0,0 +1,9 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+
+import java.util.List;
+
+public record MatchDayCreationReportData(List<DivisionData> createdDivisions,
+                                         List<SkippedDivisionData> skippedDivisions) {
+}
@@ -0,0 +1,12 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import java.util.List;
+
+/**
+ * The violations found in the line-ups of a match day, and the time the check took.
+ */
+public record MatchDayLineUpValidationData(Integer matchDayNumber,
+                                           int numberOfBoards,
+                                           List<LineUpViolationData> violations,
+                                           long durationNanos) {
+}
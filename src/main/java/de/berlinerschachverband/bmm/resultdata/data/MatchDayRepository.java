@@ -1,13 +1,25 @@
 package de.berlinerschachverband.bmm.resultdata.data;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface MatchDayRepository extends JpaRepository<MatchDay, Long> {
 
     List<MatchDay> findByDivision_Id(Long divisionId);
 
+    List<MatchDay> findByDivision_IdOrderByMatchDayNumber(Long divisionId);
+
     Optional<MatchDay> findByDivision_IdAndAndMatchDayNumber(Long divisionId, Integer matchDayNumber);
+
+    @Query("select distinct m.division.id from MatchDay m where m.division.season.id = :seasonId")
+    Set<Long> findDivisionIdsWithMatchDaysOfSeason(@Param("seasonId") Long seasonId);
+
+    @Query("select new de.berlinerschachverband.bmm.resultdata.data.DivisionMatchDayCountData(m.division.id, count(m)) " +
+            "from MatchDay m where m.division.season.id = :seasonId group by m.division.id")
+    List<DivisionMatchDayCountData> countMatchDaysByDivisionOfSeason(@Param("seasonId") Long seasonId);
 }
@@ -0,0 +1,26 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MatchRepository extends JpaRepository<Match, Long> {
+
+    List<Match> findByMatchDay_Id(Long matchDayId);
+
+    /**
+     * Find a match and lock its row until the end of the transaction.
+     * @param matchId
+     * @return
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Match m where m.id = :matchId")
+    Optional<Match> findByIdForUpdate(@Param("matchId") Long matchId);
+}
@@ -0,0 +1,12 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+/**
+ * The summed up board points of a revision of a match result, given as half points.
+ */
+public record MatchScoreData(Long matchId,
+                             Integer revision,
+                             Long homeTeamId,
+                             Long awayTeamId,
+                             Integer homeBoardHalfPoints,
+                             Integer awayBoardHalfPoints) {
+}
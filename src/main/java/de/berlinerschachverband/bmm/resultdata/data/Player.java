@@ -6,8 +6,18 @@ import org.springframework.lang.NonNull;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = Player.TEAM_NUMBER_UK,
+        columnNames = {"team_id", "number"}))
 public class Player {
 
+    public static final String TEAM_NUMBER_UK = "PLAYER_TEAM_NUMBER_UK";
+
+    /**
+     * The highest board number of a roster, board numbers are three digits at most.
+     */
+    public static final int MAX_BOARD_NUMBER = 999;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,26 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PlayerRepository extends JpaRepository<Player, Long> {
+
+    @Query("select new de.berlinerschachverband.bmm.resultdata.data.PlayerBoardData(p.team.id, p.number) " +
+            "from Player p where p.team.division.season.id = :seasonId")
+    List<PlayerBoardData> findBoardsOfSeason(@Param("seasonId") Long seasonId);
+
+    /**
+     * Find the players of all teams of the season of a division, whose clubs have a team in that division.
+     * These are all players that may play in the division, including substitutes from lower teams.
+     */
+    @Query("select new de.berlinerschachverband.bmm.resultdata.data.RosterPlayerData(" +
+            "p.id, p.team.club.id, p.team.number, p.number, p.fideId) " +
+            "from Player p, Division d where d.id = :divisionId and p.team.division.season = d.season " +
+            "and p.team.club.id in (select t.club.id from Team t where t.division = d)")
+    List<RosterPlayerData> findRostersOfClubsOfDivision(@Param("divisionId") Long divisionId);
+}
@@ -0,0 +1,6 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+public record RatingListImportReportData(RatingListType type,
+                                         int numberOfRatings,
+                                         long durationMillis) {
+}
@@ -0,0 +1,10 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+/**
+ * The official rating lists. FIDE publishes its list as fixed width text (players_list_foa.txt),
+ * the DSB publishes the DWZ list as CSV, which contains the FIDE id of a player as well.
+ */
+public enum RatingListType {
+    FIDE,
+    DWZ
+}
@@ -0,0 +1,13 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import java.util.List;
+
+/**
+ * Outcome of a roster import. Only the first skipped rows are listed, numberOfSkippedRows counts all of them.
+ */
+public record RosterImportReportData(long numberOfImportedPlayers,
+                                     long numberOfSkippedRows,
+                                     List<SkippedRosterRowData> skippedRows,
+                                     long durationMillis,
+                                     long playersPerSecond) {
+}
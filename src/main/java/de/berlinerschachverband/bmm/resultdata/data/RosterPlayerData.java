@@ -0,0 +1,11 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+/**
+ * A player as registered on the roster of a team, the fide id is null if unknown.
+ */
+public record RosterPlayerData(Long id,
+                               Long clubId,
+                               Integer teamNumber,
+                               Integer number,
+                               String fideId) {
+}
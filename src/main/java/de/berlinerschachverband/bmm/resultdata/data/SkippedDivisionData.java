@@ -0,0 +1,6 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+
+public record SkippedDivisionData(DivisionData division, String reason) {
+}
@@ -0,0 +1,4 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+public record SkippedRosterRowData(long lineNumber, String reason) {
+}
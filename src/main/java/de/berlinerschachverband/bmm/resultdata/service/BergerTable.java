@@ -0,0 +1,81 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+/**
+ * Round robin schedule following the Berger tables, as used for chess tournaments.
+ * Teams are given by their position 0 to numberOfTeams - 1 in the draw. For an odd number of teams an
+ * additional bye position is added, a team paired against the bye does not play in that round.
+ * All pairings are kept in a single int array: for round r and pairing p, the home position is found at
+ * index 2 * (r * pairingsPerRound + p), the away position right after it.
+ */
+public final class BergerTable {
+
+    private final int numberOfTeams;
+    private final int numberOfPositions;
+    private final int[] pairings;
+
+    BergerTable(int numberOfTeams) {
+        if(numberOfTeams < 2) {
+            throw new IllegalArgumentException("a round robin needs at least 2 teams, got " + numberOfTeams);
+        }
+        this.numberOfTeams = numberOfTeams;
+        this.numberOfPositions = numberOfTeams % 2 == 0 ? numberOfTeams : numberOfTeams + 1;
+        this.pairings = computePairings(numberOfPositions);
+    }
+
+    /**
+     * In round r (counting from 0), the last position plays against position p = (r * n / 2) mod (n - 1),
+     * with the home right alternating from round to round. All other positions are paired as
+     * p + i against p - i (mod n - 1) for i = 1 .. n / 2 - 1.
+     */
+    private static int[] computePairings(int numberOfPositions) {
+        int rounds = numberOfPositions - 1;
+        int pairingsPerRound = numberOfPositions / 2;
+        int last = numberOfPositions - 1;
+        int[] pairings = new int[2 * rounds * pairingsPerRound];
+        int index = 0;
+        for(int round = 0; round < rounds; round++) {
+            int pivot = (round * pairingsPerRound) % rounds;
+            if(round % 2 == 0) {
+                pairings[index++] = pivot;
+                pairings[index++] = last;
+            } else {
+                pairings[index++] = last;
+                pairings[index++] = pivot;
+            }
+            for(int offset = 1; offset < pairingsPerRound; offset++) {
+                pairings[index++] = Math.floorMod(pivot + offset, rounds);
+                pairings[index++] = Math.floorMod(pivot - offset, rounds);
+            }
+        }
+        return pairings;
+    }
+
+    public int getNumberOfTeams() {
+        return numberOfTeams;
+    }
+
+    public int getNumberOfRounds() {
+        return numberOfPositions - 1;
+    }
+
+    public int getPairingsPerRound() {
+        return numberOfPositions / 2;
+    }
+
+    public int getHomePosition(int round, int pairing) {
+        return pairings[2 * (round * getPairingsPerRound() + pairing)];
+    }
+
+    public int getAwayPosition(int round, int pairing) {
+        return pairings[2 * (round * getPairingsPerRound() + pairing) + 1];
+    }
+
+    /**
+     * Whether the given position is the bye added for an odd number of teams.
+     * @param position
+     * @return
+     */
+    public boolean isBye(int position) {
+        return position >= numberOfTeams;
+    }
+}
@@ -0,0 +1,25 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides Berger tables for round robin divisions. A schedule only depends on the number of teams,
+ * so it is computed once per number of teams and shared by all divisions of that size.
+ */
+@Service
+public class BergerTableService {
+
+    private final Map<Integer, BergerTable> bergerTablesByNumberOfTeams = new ConcurrentHashMap<>();
+
+    /**
+     * Get the Berger table for the given number of teams. Fails for less than 2 teams.
+     * @param numberOfTeams
+     * @return
+     */
+    public BergerTable getBergerTable(int numberOfTeams) {
+        return bergerTablesByNumberOfTeams.computeIfAbsent(numberOfTeams, BergerTable::new);
+    }
+}
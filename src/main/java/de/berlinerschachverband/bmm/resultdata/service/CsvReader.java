@@ -0,0 +1,115 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads CSV records one at a time, so files of any size are read in constant memory. Fields are separated
+ * by the given separator and may be enclosed in double quotes, which allows separators, line breaks and
+ * doubled quotes within a field. The returned list of fields is reused for the next record.
+ */
+class CsvReader {
+
+    private static final int END_OF_INPUT = -1;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final char separator;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+
+    private int lookahead = NONE;
+    private long lineNumber = 1;
+    private long recordLineNumber = 0;
+
+    /**
+     * @param reader should be buffered, it is read character by character
+     * @param separator
+     */
+    CsvReader(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+    }
+
+    /**
+     * Read the next record, skipping empty lines.
+     * @return the fields of the record, or null at the end of the input
+     * @throws IOException
+     */
+    List<String> nextRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        int character = read();
+        while(character == '\r' || character == '\n') {
+            skipLineBreak(character);
+            character = read();
+        }
+        if(character == END_OF_INPUT) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+        boolean quoted = false;
+        while(character != END_OF_INPUT) {
+            if(quoted) {
+                if(character == '"') {
+                    character = read();
+                    if(character != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if(character == '\n') {
+                    lineNumber++;
+                }
+                field.append((char) character);
+            } else if(character == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if(character == separator) {
+                addField();
+            } else if(character == '\r' || character == '\n') {
+                skipLineBreak(character);
+                break;
+            } else {
+                field.append((char) character);
+            }
+            character = read();
+        }
+        addField();
+        return fields;
+    }
+
+    /**
+     * @return the line number at which the last read record starts, counting from 1
+     */
+    long getLineNumber() {
+        return recordLineNumber;
+    }
+
+    private void addField() {
+        fields.add(field.toString().strip());
+        field.setLength(0);
+    }
+
+    private int read() throws IOException {
+        if(lookahead != NONE) {
+            int character = lookahead;
+            lookahead = NONE;
+            return character;
+        }
+        return reader.read();
+    }
+
+    /**
+     * Consume a line break of \n, \r\n or \r, given its first character.
+     */
+    private void skipLineBreak(int character) throws IOException {
+        lineNumber++;
+        if(character == '\r') {
+            int next = read();
+            if(next != '\n') {
+                lookahead = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.resultdata.data.MatchScoreData;
+import de.berlinerschachverband.bmm.resultdata.data.thymeleaf.RegularDivisionTableData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory aggregate of the standings of a single division. Every team is assigned an index,
+ * games played, team points and board points are kept in primitive arrays under that index.
+ * Board points are stored as half points, so that draws do not need floating point arithmetic.
+ * Reporting a match result is O(1), the sorted table is only computed when it is requested
+ * and the standings changed since the last snapshot.
+ * Match scores remember the revision they were applied with, so that scores arriving late or twice are ignored.
+ */
+class DivisionStandings {
+
+    static final int TEAM_POINTS_WIN = 2;
+    static final int TEAM_POINTS_DRAW = 1;
+
+    private final Map<Long, Integer> indexByTeamId = new HashMap<>();
+    private final String[] teamNames;
+    private final int[] gamesPlayed;
+    private final int[] teamPoints;
+    private final int[] boardHalfPoints;
+    private final Map<Long, MatchScoreData> matchScoreByMatchId = new HashMap<>();
+
+    private long version = 0;
+    private long snapshotVersion = -1;
+    private List<RegularDivisionTableData> snapshot = List.of();
+
+    DivisionStandings(Collection<TeamData> teams, Collection<MatchScoreData> matchScores) {
+        List<TeamData> sortedTeams = teams.stream()
+                .sorted(Comparator.comparing(TeamData::name))
+                .toList();
+        teamNames = new String[sortedTeams.size()];
+        gamesPlayed = new int[sortedTeams.size()];
+        teamPoints = new int[sortedTeams.size()];
+        boardHalfPoints = new int[sortedTeams.size()];
+        for(int index = 0; index < sortedTeams.size(); index++) {
+            indexByTeamId.put(sortedTeams.get(index).id(), index);
+            teamNames[index] = sortedTeams.get(index).name();
+        }
+        matchScores.forEach(this::applyMatchScore);
+    }
+
+    /**
+     * Apply a revision of the score of a match. A previously applied older revision of the same match is replaced,
+     * an older or equal revision than the applied one is ignored.
+     * @param matchScore
+     * @return whether the standings changed
+     */
+    synchronized boolean applyMatchScore(MatchScoreData matchScore) {
+        MatchScoreData appliedMatchScore = matchScoreByMatchId.get(matchScore.matchId());
+        if(appliedMatchScore != null) {
+            if(appliedMatchScore.revision() >= matchScore.revision()) {
+                return false;
+            }
+            removeResult(appliedMatchScore.homeTeamId(), appliedMatchScore.awayTeamId(),
+                    appliedMatchScore.homeBoardHalfPoints(), appliedMatchScore.awayBoardHalfPoints());
+        }
+        addResult(matchScore.homeTeamId(), matchScore.awayTeamId(),
+                matchScore.homeBoardHalfPoints(), matchScore.awayBoardHalfPoints());
+        matchScoreByMatchId.put(matchScore.matchId(), matchScore);
+        return true;
+    }
+
+    /**
+     * Add a match result to the standings.
+     * @param homeTeamId
+     * @param awayTeamId
+     * @param homeBoardHalfPoints
+     * @param awayBoardHalfPoints
+     */
+    private void addResult(Long homeTeamId, Long awayTeamId, int homeBoardHalfPoints, int awayBoardHalfPoints) {
+        apply(homeTeamId, awayTeamId, homeBoardHalfPoints, awayBoardHalfPoints, 1);
+    }
+
+    /**
+     * Remove a previously added match result from the standings, e.g. when a result gets corrected.
+     * @param homeTeamId
+     * @param awayTeamId
+     * @param homeBoardHalfPoints
+     * @param awayBoardHalfPoints
+     */
+    private void removeResult(Long homeTeamId, Long awayTeamId, int homeBoardHalfPoints, int awayBoardHalfPoints) {
+        apply(homeTeamId, awayTeamId, homeBoardHalfPoints, awayBoardHalfPoints, -1);
+    }
+
+    /**
+     * Get the current table, ordered by team points, board points and team name.
+     * Teams with equal team points and board points share their position.
+     * @return
+     */
+    synchronized List<RegularDivisionTableData> getTable() {
+        if(snapshotVersion != version) {
+            snapshot = buildTable();
+            snapshotVersion = version;
+        }
+        return snapshot;
+    }
+
+    private void apply(Long homeTeamId, Long awayTeamId, int homeBoardHalfPoints, int awayBoardHalfPoints, int sign) {
+        int home = indexOf(homeTeamId);
+        int away = indexOf(awayTeamId);
+        gamesPlayed[home] += sign;
+        gamesPlayed[away] += sign;
+        boardHalfPoints[home] += sign * homeBoardHalfPoints;
+        boardHalfPoints[away] += sign * awayBoardHalfPoints;
+        if(homeBoardHalfPoints > awayBoardHalfPoints) {
+            teamPoints[home] += sign * TEAM_POINTS_WIN;
+        } else if(homeBoardHalfPoints < awayBoardHalfPoints) {
+            teamPoints[away] += sign * TEAM_POINTS_WIN;
+        } else {
+            teamPoints[home] += sign * TEAM_POINTS_DRAW;
+            teamPoints[away] += sign * TEAM_POINTS_DRAW;
+        }
+        version++;
+    }
+
+    private int indexOf(Long teamId) {
+        Integer index = indexByTeamId.get(teamId);
+        if(index == null) {
+            throw new IllegalArgumentException("team " + teamId + " is not part of this division");
+        }
+        return index;
+    }
+
+    private List<RegularDivisionTableData> buildTable() {
+        // Divisions hold about ten teams, an insertion sort on the index array is all that is needed.
+        int[] order = new int[teamNames.length];
+        for(int index = 0; index < order.length; index++) {
+            int current = index;
+            int position = index;
+            while(position > 0 && ranksBefore(current, order[position - 1])) {
+                order[position] = order[position - 1];
+                position--;
+            }
+            order[position] = current;
+        }
+        List<RegularDivisionTableData> table = new ArrayList<>(order.length);
+        int rank = 0;
+        for(int position = 0; position < order.length; position++) {
+            int team = order[position];
+            if(position == 0 || !sharesRank(team, order[position - 1])) {
+                rank = position + 1;
+            }
+            table.add(new RegularDivisionTableData(
+                    String.valueOf(rank),
+                    teamNames[team],
+                    String.valueOf(gamesPlayed[team]),
+                    String.valueOf(teamPoints[team]),
+                    formatHalfPoints(boardHalfPoints[team])));
+        }
+        return List.copyOf(table);
+    }
+
+    private boolean ranksBefore(int team, int other) {
+        if(teamPoints[team] != teamPoints[other]) {
+            return teamPoints[team] > teamPoints[other];
+        }
+        if(boardHalfPoints[team] != boardHalfPoints[other]) {
+            return boardHalfPoints[team] > boardHalfPoints[other];
+        }
+        return teamNames[team].compareTo(teamNames[other]) < 0;
+    }
+
+    private boolean sharesRank(int team, int other) {
+        return teamPoints[team] == teamPoints[other] && boardHalfPoints[team] == boardHalfPoints[other];
+    }
+
+    static String formatHalfPoints(int halfPoints) {
+        return halfPoints % 2 == 0 ? String.valueOf(halfPoints / 2) : (halfPoints / 2) + ",5";
+    }
+}
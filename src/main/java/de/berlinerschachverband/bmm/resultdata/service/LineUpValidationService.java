@@ -0,0 +1,92 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.resultdata.data.BoardResultRepository;
+import de.berlinerschachverband.bmm.resultdata.data.LineUpBoardData;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayLineUpValidationData;
+import de.berlinerschachverband.bmm.resultdata.data.PlayerRepository;
+import de.berlinerschachverband.bmm.resultdata.data.RatingListType;
+import de.berlinerschachverband.bmm.resultdata.data.RosterPlayerData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Validates the line-ups of the current match results of a division against the rosters of its clubs.
+ * Rosters and line-ups are loaded with one query each, the line-ups of every match day are then checked
+ * by a LineUpValidator in a single pass. Players are rated by DWZ, by FIDE rating if they have no DWZ.
+ * Both rating lists are indexed by FIDE id only, so the rating order of players without a FIDE id,
+ * including players who only have a DWZ, is never checked.
+ */
+@Service
+public class LineUpValidationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LineUpValidationService.class);
+
+    private final PlayerRepository playerRepository;
+
+    private final BoardResultRepository boardResultRepository;
+
+    private final TeamService teamService;
+
+    private final RatingListService ratingListService;
+
+    private final int ratingTolerance;
+
+    public LineUpValidationService(PlayerRepository playerRepository,
+                                   BoardResultRepository boardResultRepository,
+                                   TeamService teamService,
+                                   RatingListService ratingListService,
+                                   @Value("${bmm.line-up-validation.rating-tolerance:200}") int ratingTolerance) {
+        this.playerRepository = playerRepository;
+        this.boardResultRepository = boardResultRepository;
+        this.teamService = teamService;
+        this.ratingListService = ratingListService;
+        this.ratingTolerance = ratingTolerance;
+    }
+
+    /**
+     * Validate the line-ups of all match days of a division that have results.
+     * @param divisionData
+     * @return the violations of each match day, ordered by match day number
+     */
+    public List<MatchDayLineUpValidationData> validateLineUps(DivisionData divisionData) {
+        LineUpValidator lineUpValidator = new LineUpValidator(
+                playerRepository.findRostersOfClubsOfDivision(divisionData.id()),
+                teamService.getTeamsOfDivision(divisionData),
+                this::getRating,
+                ratingTolerance);
+        List<LineUpBoardData> boards = boardResultRepository.findLatestLineUpsOfDivision(divisionData.id());
+        List<MatchDayLineUpValidationData> matchDays = new ArrayList<>();
+        int matchDayStart = 0;
+        for(int index = 1; index <= boards.size(); index++) {
+            if(index == boards.size()
+                    || !boards.get(index).matchDayNumber().equals(boards.get(matchDayStart).matchDayNumber())) {
+                MatchDayLineUpValidationData matchDay = lineUpValidator.validateMatchDay(boards.subList(matchDayStart, index));
+                LOGGER.debug("validated {} boards of match day {} of division {} in {} µs, {} violations",
+                        matchDay.numberOfBoards(), matchDay.matchDayNumber(), divisionData.name(),
+                        matchDay.durationNanos() / 1_000, matchDay.violations().size());
+                matchDays.add(matchDay);
+                matchDayStart = index;
+            }
+        }
+        return matchDays;
+    }
+
+    private int getRating(RosterPlayerData player) {
+        if(player.fideId() == null) {
+            return RatingIndex.NO_RATING;
+        }
+        OptionalInt dwz = ratingListService.getRating(RatingListType.DWZ, player.fideId());
+        if(dwz.isPresent()) {
+            return dwz.getAsInt();
+        }
+        return ratingListService.getRating(RatingListType.FIDE, player.fideId()).orElse(RatingIndex.NO_RATING);
+    }
+}
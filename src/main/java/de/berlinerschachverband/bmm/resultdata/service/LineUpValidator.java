@@ -0,0 +1,152 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.resultdata.data.LineUpBoardData;
+import de.berlinerschachverband.bmm.resultdata.data.LineUpViolationData;
+import de.berlinerschachverband.bmm.resultdata.data.LineUpViolationType;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayLineUpValidationData;
+import de.berlinerschachverband.bmm.resultdata.data.Player;
+import de.berlinerschachverband.bmm.resultdata.data.RosterPlayerData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Checks the line-ups of a division against the rosters of its clubs. The rosters are held in primitive arrays
+ * sorted by player id, so a board is checked with a binary search and a few array reads. Players are ranked
+ * within their club by team number and board number on the roster, a line-up has to follow that rank and must
+ * not put a player on a lower board whose rating exceeds that of a player on a higher board by more than
+ * the rating tolerance. Players may substitute in higher teams of their club only, and must not play twice
+ * on a match day or for two teams of the division.
+ * A validator keeps track of the teams players played for, so match days are validated in order, each only once.
+ */
+final class LineUpValidator {
+
+    private static final int NOT_PLAYED = 0;
+
+    private final long[] playerIds;
+    private final long[] playerClubIds;
+    private final int[] playerTeamNumbers;
+    private final int[] playerRanks;
+    private final int[] playerRatings;
+
+    private final long[] teamIds;
+    private final long[] teamClubIds;
+    private final int[] teamNumbers;
+
+    private final int ratingTolerance;
+
+    private final long[] playedForTeamIds;
+    private final int[] lastPlayedMatchDays;
+
+    /**
+     * @param rosters
+     * @param teams the teams of the division
+     * @param rating the rating of a player, RatingIndex.NO_RATING if there is none
+     * @param ratingTolerance
+     */
+    LineUpValidator(List<RosterPlayerData> rosters,
+                    Collection<TeamData> teams,
+                    ToIntFunction<RosterPlayerData> rating,
+                    int ratingTolerance) {
+        List<RosterPlayerData> players = rosters.stream().sorted(Comparator.comparing(RosterPlayerData::id)).toList();
+        playerIds = new long[players.size()];
+        playerClubIds = new long[players.size()];
+        playerTeamNumbers = new int[players.size()];
+        playerRanks = new int[players.size()];
+        playerRatings = new int[players.size()];
+        for(int index = 0; index < players.size(); index++) {
+            RosterPlayerData player = players.get(index);
+            playerIds[index] = player.id();
+            playerClubIds[index] = player.clubId();
+            playerTeamNumbers[index] = player.teamNumber();
+            playerRanks[index] = player.teamNumber() * (Player.MAX_BOARD_NUMBER + 1) + player.number();
+            playerRatings[index] = rating.applyAsInt(player);
+        }
+        List<TeamData> sortedTeams = teams.stream().sorted(Comparator.comparing(TeamData::id)).toList();
+        teamIds = new long[sortedTeams.size()];
+        teamClubIds = new long[sortedTeams.size()];
+        teamNumbers = new int[sortedTeams.size()];
+        for(int index = 0; index < sortedTeams.size(); index++) {
+            teamIds[index] = sortedTeams.get(index).id();
+            teamClubIds[index] = sortedTeams.get(index).clubData().id();
+            teamNumbers[index] = sortedTeams.get(index).number();
+        }
+        this.ratingTolerance = ratingTolerance;
+        playedForTeamIds = new long[players.size()];
+        lastPlayedMatchDays = new int[players.size()];
+    }
+
+    /**
+     * Check all line-ups of a match day in a single pass.
+     * @param boards the boards of the match day, ordered by match and board number
+     * @return
+     */
+    MatchDayLineUpValidationData validateMatchDay(List<LineUpBoardData> boards) {
+        long start = System.nanoTime();
+        List<LineUpViolationData> violations = new ArrayList<>();
+        // index 0 is the home team, 1 the away team; rank and rating bounds of the boards above the current one
+        int[] highestRanks = new int[2];
+        int[] lowestRatings = new int[2];
+        Long matchId = null;
+        for(LineUpBoardData board : boards) {
+            if(!board.matchId().equals(matchId)) {
+                matchId = board.matchId();
+                Arrays.fill(highestRanks, 0);
+                Arrays.fill(lowestRatings, Integer.MAX_VALUE);
+            }
+            checkBoard(board, 0, board.homeTeamId(), board.homePlayerId(), highestRanks, lowestRatings, violations);
+            checkBoard(board, 1, board.awayTeamId(), board.awayPlayerId(), highestRanks, lowestRatings, violations);
+        }
+        Integer matchDayNumber = boards.isEmpty() ? null : boards.get(0).matchDayNumber();
+        return new MatchDayLineUpValidationData(matchDayNumber, boards.size(), violations, System.nanoTime() - start);
+    }
+
+    private void checkBoard(LineUpBoardData board, int side, Long teamId, Long playerId,
+                            int[] highestRanks, int[] lowestRatings, List<LineUpViolationData> violations) {
+        if(playerId == null) {
+            return;
+        }
+        int team = Arrays.binarySearch(teamIds, teamId);
+        if(team < 0) {
+            throw new IllegalStateException("team %d of match %d does not play in the division".formatted(teamId, board.matchId()));
+        }
+        int player = Arrays.binarySearch(playerIds, playerId);
+        if(player < 0 || playerClubIds[player] != teamClubIds[team]) {
+            violations.add(violation(board, teamId, playerId, LineUpViolationType.NOT_ON_ROSTER));
+            return;
+        }
+        if(playerTeamNumbers[player] < teamNumbers[team]) {
+            violations.add(violation(board, teamId, playerId, LineUpViolationType.ILLEGAL_SUBSTITUTION));
+        }
+        if(playerRanks[player] < highestRanks[side]) {
+            violations.add(violation(board, teamId, playerId, LineUpViolationType.BOARD_ORDER));
+        } else {
+            highestRanks[side] = playerRanks[player];
+        }
+        int rating = playerRatings[player];
+        if(rating != RatingIndex.NO_RATING) {
+            if(lowestRatings[side] != Integer.MAX_VALUE && rating > lowestRatings[side] + ratingTolerance) {
+                violations.add(violation(board, teamId, playerId, LineUpViolationType.RATING_ORDER));
+            }
+            lowestRatings[side] = Math.min(lowestRatings[side], rating);
+        }
+        if(lastPlayedMatchDays[player] == board.matchDayNumber()) {
+            violations.add(violation(board, teamId, playerId, LineUpViolationType.PLAYED_TWICE_ON_MATCH_DAY));
+        } else if(playedForTeamIds[player] != NOT_PLAYED && playedForTeamIds[player] != teamId) {
+            violations.add(violation(board, teamId, playerId, LineUpViolationType.PLAYED_FOR_TWO_TEAMS));
+        }
+        lastPlayedMatchDays[player] = board.matchDayNumber();
+        if(playedForTeamIds[player] == NOT_PLAYED) {
+            playedForTeamIds[player] = teamId;
+        }
+    }
+
+    private static LineUpViolationData violation(LineUpBoardData board, Long teamId, Long playerId, LineUpViolationType type) {
+        return new LineUpViolationData(board.matchId(), teamId, board.boardNumber(), playerId, type);
+    }
+}
@@ -0,0 +1,192 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.berlinerschachverband.bmm.events.StandingsChangedEvent;
+import de.berlinerschachverband.bmm.resultdata.data.LiveResultData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Pushes results and the updated standings to subscribers of a division or a whole season as server-sent events.
+ * Subscriptions use servlet async requests, so an idle subscriber holds a connection but no request thread.
+ * Every result is serialized to JSON once and then queued for all subscribers of its division and season.
+ * Each subscriber has a bounded queue that is written on the application task executor, so a slow client
+ * never delays the others. A client that falls MAX_QUEUED_EVENTS events behind is dropped.
+ * A heartbeat comment is sent regularly so that subscriptions of clients that went away are detected and dropped.
+ */
+@Service
+public class LiveTickerService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveTickerService.class);
+
+    static final long SUBSCRIPTION_TIMEOUT_MILLIS = 60 * 60 * 1000L;
+
+    static final int MAX_QUEUED_EVENTS = 16;
+
+    private final ObjectMapper objectMapper;
+
+    private final Executor executor;
+
+    private final Map<String, Set<Subscriber>> subscribersByTopic = new ConcurrentHashMap<>();
+
+    public LiveTickerService(ObjectMapper objectMapper,
+                             @Qualifier("applicationTaskExecutor") Executor executor) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    /**
+     * Subscribe to the results of a division.
+     * @param seasonName
+     * @param divisionName
+     * @return
+     */
+    public SseEmitter subscribeToDivision(String seasonName, String divisionName) {
+        return subscribe(divisionTopic(seasonName, divisionName), new SseEmitter(SUBSCRIPTION_TIMEOUT_MILLIS));
+    }
+
+    /**
+     * Subscribe to the results of all divisions of a season.
+     * @param seasonName
+     * @return
+     */
+    public SseEmitter subscribeToSeason(String seasonName) {
+        return subscribe(seasonTopic(seasonName), new SseEmitter(SUBSCRIPTION_TIMEOUT_MILLIS));
+    }
+
+    @EventListener
+    public void onStandingsChanged(StandingsChangedEvent standingsChangedEvent) {
+        String seasonName = standingsChangedEvent.divisionData().season().name();
+        String divisionName = standingsChangedEvent.divisionData().name();
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(new LiveResultData(seasonName, divisionName,
+                    standingsChangedEvent.matchScore(), standingsChangedEvent.table()));
+        } catch (JsonProcessingException e) {
+            LOGGER.error("Could not serialize live result of season: {}, division: {}", seasonName, divisionName, e);
+            return;
+        }
+        // an event builder keeps state while it is written, so every subscriber gets its own, only sharing the json
+        Supplier<SseEmitter.SseEventBuilder> event =
+                () -> SseEmitter.event().name("result").data(json, MediaType.APPLICATION_JSON);
+        broadcast(divisionTopic(seasonName, divisionName), event);
+        broadcast(seasonTopic(seasonName), event);
+    }
+
+    @Scheduled(fixedRate = 30_000)
+    public void sendHeartbeat() {
+        subscribersByTopic.keySet().forEach(topic -> broadcast(topic, () -> SseEmitter.event().comment("heartbeat")));
+    }
+
+    SseEmitter subscribe(String topic, SseEmitter sseEmitter) {
+        Subscriber subscriber = new Subscriber(topic, sseEmitter);
+        subscribersByTopic.computeIfAbsent(topic, t -> new CopyOnWriteArraySet<>()).add(subscriber);
+        Runnable unsubscribe = () -> unsubscribe(topic, subscriber);
+        sseEmitter.onCompletion(unsubscribe);
+        sseEmitter.onTimeout(unsubscribe);
+        sseEmitter.onError(throwable -> unsubscribe.run());
+        return sseEmitter;
+    }
+
+    int getNumberOfSubscribers(String topic) {
+        return subscribersByTopic.getOrDefault(topic, Set.of()).size();
+    }
+
+    private void broadcast(String topic, Supplier<SseEmitter.SseEventBuilder> event) {
+        subscribersByTopic.getOrDefault(topic, Set.of()).forEach(subscriber -> subscriber.offer(event.get()));
+    }
+
+    private void unsubscribe(String topic, Subscriber subscriber) {
+        subscribersByTopic.computeIfPresent(topic, (t, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    static String divisionTopic(String seasonName, String divisionName) {
+        return "division:" + seasonName + "/" + divisionName;
+    }
+
+    static String seasonTopic(String seasonName) {
+        return "season:" + seasonName;
+    }
+
+    /**
+     * An emitter with the events queued for it. At most one task of the executor writes the events of a subscriber,
+     * so they are sent in order. The emitter is only ever completed by that task: SseEmitter synchronizes sending
+     * and completing, completing it from the broadcasting thread would wait for a stalled send.
+     */
+    private final class Subscriber {
+
+        private final String topic;
+        private final SseEmitter sseEmitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> events = new ArrayBlockingQueue<>(MAX_QUEUED_EVENTS);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean dropped;
+
+        private Subscriber(String topic, SseEmitter sseEmitter) {
+            this.topic = topic;
+            this.sseEmitter = sseEmitter;
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if(!events.offer(event)) {
+                LOGGER.debug("Dropping subscriber of {}, it is {} events behind", topic, MAX_QUEUED_EVENTS);
+                drop();
+                return;
+            }
+            startSending();
+        }
+
+        private void startSending() {
+            if(sending.compareAndSet(false, true)) {
+                executor.execute(this::send);
+            }
+        }
+
+        private void send() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while(!dropped && (event = events.poll()) != null) {
+                    sseEmitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // the client went away, drop it right away instead of waiting for the container to notice
+                drop();
+            } finally {
+                sending.set(false);
+            }
+            if(dropped) {
+                sseEmitter.complete();
+            } else if(!events.isEmpty()) {
+                // an event was queued after the last poll, but before sending was reset
+                startSending();
+            }
+        }
+
+        private void drop() {
+            dropped = true;
+            events.clear();
+            unsubscribe(topic, this);
+            startSending();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+/**
+ * A set of primitive longs with open addressing, for keys that would otherwise be boxed by the million.
+ * The table is kept at most half full and doubles its size when needed.
+ */
+class LongHashSet {
+
+    private long[] keys;
+    private boolean[] used;
+    private int size = 0;
+
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        keys = new long[capacity];
+        used = new boolean[capacity];
+    }
+
+    /**
+     * Add a key to the set.
+     * @param key
+     * @return whether the key was added, i.e. was not contained before
+     */
+    boolean add(long key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while(used[index]) {
+            if(keys[index] == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        used[index] = true;
+        if(++size * 2 > keys.length) {
+            grow();
+        }
+        return true;
+    }
+
+    boolean contains(long key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while(used[index]) {
+            if(keys[index] == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        boolean[] oldUsed = used;
+        keys = new long[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        size = 0;
+        for(int index = 0; index < oldKeys.length; index++) {
+            if(oldUsed[index]) {
+                add(oldKeys[index]);
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
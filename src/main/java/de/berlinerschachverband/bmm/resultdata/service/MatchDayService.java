@@ -3,14 +3,34 @@ package de.berlinerschachverband.bmm.resultdata.service;
 import de.berlinerschachverband.bmm.basedata.data.Division;
 import de.berlinerschachverband.bmm.basedata.data.DivisionData;
 import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.Team;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
 import de.berlinerschachverband.bmm.basedata.service.DivisionService;
 import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
 import de.berlinerschachverband.bmm.exceptions.MatchDayAlreadyExistsException;
+import de.berlinerschachverband.bmm.resultdata.data.DivisionMatchDayCountData;
+import de.berlinerschachverband.bmm.resultdata.data.Match;
 import de.berlinerschachverband.bmm.resultdata.data.MatchDay;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayCreationReportData;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayData;
 import de.berlinerschachverband.bmm.resultdata.data.MatchDayRepository;
+import de.berlinerschachverband.bmm.resultdata.data.MatchRepository;
+import de.berlinerschachverband.bmm.resultdata.data.SkippedDivisionData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Match days are containers for matches basically, keeping track of round number and division
@@ -19,75 +39,186 @@ import java.util.Collection;
 @Service
 public class MatchDayService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(MatchDayService.class);
+
     private final DivisionService divisionService;
 
     private final TeamService teamService;
 
     private final MatchDayRepository matchDayRepository;
 
+    private final MatchRepository matchRepository;
+
+    private final BergerTableService bergerTableService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     public MatchDayService(DivisionService divisionService,
                            MatchDayRepository matchDayRepository,
-                           TeamService teamService) {
+                           TeamService teamService,
+                           MatchRepository matchRepository,
+                           BergerTableService bergerTableService,
+                           ApplicationEventPublisher applicationEventPublisher) {
         this.divisionService = divisionService;
         this.matchDayRepository = matchDayRepository;
         this.teamService = teamService;
+        this.matchRepository = matchRepository;
+        this.bergerTableService = bergerTableService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
-     * Creates match days for a complete season.
-     * @param seasonData
+     * Get the match days of a division, ordered by their number.
+     * @param divisionData
+     * @return
      */
-    public void createRoundRobinMatchDaysForSeason(SeasonData seasonData) {
-        Collection<DivisionData> divisions = divisionService.getDivisionsOfSeason(seasonData);
-        createRoundRobinMatchDaysForDivisions(divisions);
+    public List<MatchDayData> getMatchDaysOfDivision(DivisionData divisionData) {
+        return matchDayRepository.findByDivision_IdOrderByMatchDayNumber(divisionData.id()).stream()
+                .map(matchDay -> new MatchDayData(matchDay.getId(), matchDay.getMatchDayNumber(), divisionData))
+                .toList();
     }
 
     /**
-     * Calls createMatchDaysForDivision for each of the given divisions with numberOfTeams - 1 match days.
-     * Does nothing for any division of the given divisions that has less than 2 teams assigned.
-     * Ignores divisions that already have match days assigned, just logs a warning.
-     *
-     * @param divisions
+     * Creates round robin match days including their matches for all divisions of a season within a single
+     * transaction. Pairings follow the Berger tables, teams are placed in the table in alphabetical order.
+     * The teams of the season and the divisions that already have match days are loaded with one query each,
+     * the match days and matches of all divisions are inserted together in JDBC batches.
+     * Divisions that have less than 2 teams assigned or already have match days are skipped,
+     * they are listed in the returned report and logged as a warning.
+     * @param seasonData
+     * @return
      */
-    public void createRoundRobinMatchDaysForDivisions(Collection<DivisionData> divisions) {
-        for(DivisionData division : divisions) {
-            try {
-                createMatchDaysForDivision(division, numberOfMatchDays(teamService.getNumberOfTeamsOfDivision(division)));
-            } catch (MatchDayAlreadyExistsException ex) {
-                // TODO: Log warning properly.
-                System.out.println("WARNING: " + ex.getMessage());
+    @Transactional
+    public MatchDayCreationReportData createRoundRobinMatchDaysForSeason(SeasonData seasonData) {
+        Map<Long, List<TeamData>> teamsByDivisionId = teamService.getTeamsByDivisionOfSeason(seasonData);
+        Set<Long> divisionIdsWithMatchDays = matchDayRepository.findDivisionIdsWithMatchDaysOfSeason(seasonData.id());
+        List<DivisionData> divisions = divisionService.getDivisionsOfSeason(seasonData).stream()
+                .sorted(Comparator.comparing(DivisionData::level).thenComparing(DivisionData::name))
+                .toList();
+
+        List<DivisionData> createdDivisions = new ArrayList<>();
+        List<SkippedDivisionData> skippedDivisions = new ArrayList<>();
+        List<MatchDay> matchDays = new ArrayList<>();
+        List<Match> matches = new ArrayList<>();
+        for(DivisionData divisionData : divisions) {
+            List<TeamData> teams = teamsByDivisionId.getOrDefault(divisionData.id(), List.of());
+            if(teams.size() < 2) {
+                skippedDivisions.add(new SkippedDivisionData(divisionData, "weniger als 2 Mannschaften"));
                 continue;
             }
+            if(divisionIdsWithMatchDays.contains(divisionData.id())) {
+                skippedDivisions.add(new SkippedDivisionData(divisionData, "Spieltage existieren bereits"));
+                continue;
+            }
+            planRoundRobin(divisionService.getDivisionReference(divisionData.id()), teams, matchDays, matches);
+            createdDivisions.add(divisionData);
         }
+        matchDayRepository.saveAll(matchDays);
+        matchRepository.saveAll(matches);
+        createdDivisions.forEach(this::publishContentChanged);
+        if(!createdDivisions.isEmpty()) {
+            publishSeasonContentChanged(seasonData.name());
+        }
+
+        for(SkippedDivisionData skippedDivision : skippedDivisions) {
+            LOGGER.warn("No match days created for season: {}, division: {} ({})",
+                    seasonData.name(), skippedDivision.division().name(), skippedDivision.reason());
+        }
+        return new MatchDayCreationReportData(createdDivisions, skippedDivisions);
     }
 
     /**
      * Given a division and a number of match days, create the match day entities. Fails if the division does not
-     * exist or already has match days assigned. Does nothing if numberOfMatchDays is less than 1.
+     * exist or already has match days assigned, in which case no match day is created at all.
+     * Does nothing if numberOfMatchDays is less than 1.
+     * The existing match days of the division are loaded with a single query and the new match days are inserted
+     * in JDBC batches. Match days created concurrently for the same division are rejected by the unique constraint
+     * on division and match day number.
      * @param divisionData
      * @param numberOfMatchDays
      */
+    @Transactional
     public void createMatchDaysForDivision(DivisionData divisionData, Integer numberOfMatchDays) {
         if( numberOfMatchDays <1) {
             return;
         }
         Division division = divisionService.getDivisionByNameAndSeasonName(divisionData.name(), divisionData.season().name());
+        Set<Integer> existingMatchDayNumbers = matchDayRepository.findByDivision_Id(divisionData.id())
+                .stream()
+                .map(MatchDay::getMatchDayNumber)
+                .collect(Collectors.toSet());
+        List<MatchDay> matchDays = new ArrayList<>();
         for(int matchDayNumber = 1; matchDayNumber <= numberOfMatchDays; matchDayNumber++) {
-            if(matchDayRepository.findByDivision_IdAndAndMatchDayNumber(divisionData.id(),matchDayNumber).isPresent()) {
+            if(existingMatchDayNumbers.contains(matchDayNumber)) {
                 throw new MatchDayAlreadyExistsException("division: " + divisionData.name() + ", matchDayNumber: " + matchDayNumber);
             }
             MatchDay matchDay = new MatchDay();
             matchDay.setMatchDayNumber(matchDayNumber);
             matchDay.setDivision(division);
-            matchDayRepository.save(matchDay);
+            matchDays.add(matchDay);
+        }
+        try {
+            matchDayRepository.saveAll(matchDays);
+            // flush here, so that a concurrent creation of the same match days fails within this method
+            matchDayRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new MatchDayAlreadyExistsException("division: " + divisionData.name());
         }
+        publishContentChanged(divisionData);
+        publishSeasonContentChanged(divisionData.season().name());
+    }
+
+    /**
+     * Get the number of match days of all divisions of a season with a single query,
+     * mapped by division id. Divisions without match days are not contained.
+     * @param seasonData
+     * @return
+     */
+    public Map<Long, Integer> getNumberOfMatchDaysByDivisionOfSeason(SeasonData seasonData) {
+        return matchDayRepository.countMatchDaysByDivisionOfSeason(seasonData.id())
+                .stream()
+                .collect(Collectors.toMap(DivisionMatchDayCountData::divisionId,
+                        divisionMatchDayCount -> Math.toIntExact(divisionMatchDayCount.numberOfMatchDays())));
     }
 
-    private Integer numberOfMatchDays(Integer numberOfTeams) {
-        if (numberOfTeams %2 == 0) {
-            return numberOfTeams -1;
-        }else {
-            return numberOfTeams;
+    private void publishContentChanged(DivisionData divisionData) {
+        applicationEventPublisher.publishEvent(
+                new ContentChangedEvent(divisionData.season().name(), Optional.of(divisionData.name())));
+    }
+
+    /**
+     * The season overview shows the number of match days of each division.
+     */
+    private void publishSeasonContentChanged(String seasonName) {
+        applicationEventPublisher.publishEvent(new ContentChangedEvent(seasonName, Optional.empty()));
+    }
+
+    /**
+     * Adds one match day per round of the Berger table and the matches of that round.
+     * Pairings against the bye of a division with an odd number of teams do not become matches.
+     */
+    private void planRoundRobin(Division division, List<TeamData> teams, List<MatchDay> matchDays, List<Match> matches) {
+        BergerTable bergerTable = bergerTableService.getBergerTable(teams.size());
+        List<Team> teamReferences = teams.stream()
+                .map(teamData -> teamService.getTeamReference(teamData.id()))
+                .toList();
+        for(int round = 0; round < bergerTable.getNumberOfRounds(); round++) {
+            MatchDay matchDay = new MatchDay();
+            matchDay.setMatchDayNumber(round + 1);
+            matchDay.setDivision(division);
+            matchDays.add(matchDay);
+            for(int pairing = 0; pairing < bergerTable.getPairingsPerRound(); pairing++) {
+                int home = bergerTable.getHomePosition(round, pairing);
+                int away = bergerTable.getAwayPosition(round, pairing);
+                if(bergerTable.isBye(home) || bergerTable.isBye(away)) {
+                    continue;
+                }
+                Match match = new Match();
+                match.setMatchDay(matchDay);
+                match.setHomeTeam(teamReferences.get(home));
+                match.setAwayTeam(teamReferences.get(away));
+                matches.add(match);
+            }
         }
     }
 }
@@ -0,0 +1,82 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Maps FIDE ids to ratings in a hash table with open addressing, kept off-heap in a direct buffer.
+ * Every slot takes 8 bytes, the FIDE id and the rating as ints, a FIDE id of 0 marks an empty slot.
+ * The table is sized once for the expected number of entries and kept at most half full,
+ * so a list of a million players takes 16 MB outside of the heap.
+ */
+class RatingIndex {
+
+    static final int NO_RATING = -1;
+
+    private static final int SLOT_SIZE = 8;
+
+    private final ByteBuffer table;
+    private final int mask;
+    private int size = 0;
+
+    RatingIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        table = ByteBuffer.allocateDirect(capacity * SLOT_SIZE).order(ByteOrder.nativeOrder());
+        mask = capacity - 1;
+    }
+
+    /**
+     * Put the rating of a player, replacing a rating put before.
+     * @param fideId has to be positive
+     * @param rating
+     */
+    void put(int fideId, int rating) {
+        if(fideId <= 0) {
+            throw new IllegalArgumentException("invalid FIDE id " + fideId);
+        }
+        if((size + 1) * 2 > mask + 1) {
+            throw new IllegalStateException("rating index is full");
+        }
+        int slot = hash(fideId) & mask;
+        int key;
+        while((key = table.getInt(slot * SLOT_SIZE)) != 0) {
+            if(key == fideId) {
+                table.putInt(slot * SLOT_SIZE + 4, rating);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table.putInt(slot * SLOT_SIZE, fideId);
+        table.putInt(slot * SLOT_SIZE + 4, rating);
+        size++;
+    }
+
+    /**
+     * Get the rating of a player.
+     * @param fideId
+     * @return the rating, NO_RATING if the player is not contained
+     */
+    int get(int fideId) {
+        if(fideId <= 0) {
+            return NO_RATING;
+        }
+        int slot = hash(fideId) & mask;
+        int key;
+        while((key = table.getInt(slot * SLOT_SIZE)) != 0) {
+            if(key == fideId) {
+                return table.getInt(slot * SLOT_SIZE + 4);
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_RATING;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
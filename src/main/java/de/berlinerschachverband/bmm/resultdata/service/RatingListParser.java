@@ -0,0 +1,163 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.exceptions.RatingListImportFailedException;
+import de.berlinerschachverband.bmm.resultdata.data.RatingListType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Parses rating lists directly from their bytes into a RatingIndex. Only the header line is decoded
+ * into a String to locate the FIDE id and rating columns, all other lines are scanned byte by byte,
+ * so parsing allocates nothing per line. The FIDE list is fixed width, its columns start where their
+ * labels start in the header. The DWZ list is delimited by comma or semicolon, with quoted fields.
+ * Players without FIDE id or without rating are left out.
+ */
+final class RatingListParser {
+
+    private static final String FIDE_ID_LABEL = "ID Number";
+    private static final String FIDE_RATING_LABEL = "SRtng";
+    private static final String DWZ_FIDE_ID_LABEL = "FIDEID";
+    private static final String DWZ_RATING_LABEL = "DWZ";
+    private static final int LAST_COLUMN = -1;
+
+    private RatingListParser() { }
+
+    static RatingIndex parse(ByteBuffer buffer, RatingListType type) {
+        int limit = buffer.limit();
+        int headerEnd = lineEnd(buffer, 0, limit);
+        byte[] headerBytes = new byte[headerEnd];
+        buffer.get(0, headerBytes);
+        String header = new String(headerBytes, StandardCharsets.ISO_8859_1).stripTrailing();
+        RatingIndex ratingIndex = new RatingIndex(countLines(buffer, headerEnd + 1, limit));
+        if(type == RatingListType.FIDE) {
+            parseFixedWidth(buffer, headerEnd + 1, limit, header, ratingIndex);
+        } else {
+            parseDelimited(buffer, headerEnd + 1, limit, header, ratingIndex);
+        }
+        return ratingIndex;
+    }
+
+    private static void parseFixedWidth(ByteBuffer buffer, int start, int limit, String header, RatingIndex ratingIndex) {
+        int idStart = columnStart(header, FIDE_ID_LABEL);
+        int idEnd = nextColumnStart(header, idStart + FIDE_ID_LABEL.length());
+        int ratingStart = columnStart(header, FIDE_RATING_LABEL);
+        int ratingEnd = nextColumnStart(header, ratingStart + FIDE_RATING_LABEL.length());
+        for(int lineStart = start; lineStart < limit; ) {
+            int lineEnd = lineEnd(buffer, lineStart, limit);
+            int fideId = parseNumber(buffer, lineStart + idStart, fieldEnd(lineStart, idEnd, lineEnd));
+            int rating = parseNumber(buffer, lineStart + ratingStart, fieldEnd(lineStart, ratingEnd, lineEnd));
+            if(fideId > 0 && rating > 0) {
+                ratingIndex.put(fideId, rating);
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    private static void parseDelimited(ByteBuffer buffer, int start, int limit, String header, RatingIndex ratingIndex) {
+        char separator = header.indexOf(';') >= 0 ? ';' : ',';
+        String[] labels = header.split(String.valueOf(separator));
+        int idColumn = columnIndex(labels, DWZ_FIDE_ID_LABEL);
+        int ratingColumn = columnIndex(labels, DWZ_RATING_LABEL);
+        for(int lineStart = start; lineStart < limit; ) {
+            int lineEnd = lineEnd(buffer, lineStart, limit);
+            int column = 0;
+            int fieldStart = lineStart;
+            boolean quoted = false;
+            int fideId = 0;
+            int rating = 0;
+            for(int position = lineStart; position <= lineEnd; position++) {
+                byte character = position < lineEnd ? buffer.get(position) : (byte) separator;
+                if(character == '"') {
+                    quoted = !quoted;
+                } else if(character == separator && !quoted) {
+                    if(column == idColumn) {
+                        fideId = parseNumber(buffer, fieldStart, position);
+                    } else if(column == ratingColumn) {
+                        rating = parseNumber(buffer, fieldStart, position);
+                    }
+                    column++;
+                    fieldStart = position + 1;
+                }
+            }
+            if(fideId > 0 && rating > 0) {
+                ratingIndex.put(fideId, rating);
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    /**
+     * Parse a non-negative number from the bytes between from and to, ignoring leading blanks and quotes
+     * and everything after the digits.
+     * @return the number, 0 if there is none or it does not fit into an int
+     */
+    private static int parseNumber(ByteBuffer buffer, int from, int to) {
+        int position = from;
+        while(position < to && (buffer.get(position) == ' ' || buffer.get(position) == '"')) {
+            position++;
+        }
+        long number = 0;
+        for(; position < to; position++) {
+            int digit = buffer.get(position) - '0';
+            if(digit < 0 || digit > 9) {
+                break;
+            }
+            number = number * 10 + digit;
+            if(number > Integer.MAX_VALUE) {
+                return 0;
+            }
+        }
+        return (int) number;
+    }
+
+    private static int lineEnd(ByteBuffer buffer, int from, int limit) {
+        for(int position = from; position < limit; position++) {
+            if(buffer.get(position) == '\n') {
+                return position;
+            }
+        }
+        return limit;
+    }
+
+    private static int countLines(ByteBuffer buffer, int from, int limit) {
+        int lines = from < limit ? 1 : 0;
+        for(int position = from; position < limit; position++) {
+            if(buffer.get(position) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private static int columnStart(String header, String label) {
+        int start = header.indexOf(label);
+        if(start < 0) {
+            throw new RatingListImportFailedException("column %s not found in rating list".formatted(label));
+        }
+        return start;
+    }
+
+    private static int fieldEnd(int lineStart, int columnEnd, int lineEnd) {
+        return columnEnd == LAST_COLUMN ? lineEnd : Math.min(lineStart + columnEnd, lineEnd);
+    }
+
+    private static int nextColumnStart(String header, int labelEnd) {
+        int position = labelEnd;
+        while(position < header.length() && header.charAt(position) == ' ') {
+            position++;
+        }
+        return position < header.length() ? position : LAST_COLUMN;
+    }
+
+    private static int columnIndex(String[] labels, String label) {
+        for(int column = 0; column < labels.length; column++) {
+            String normalized = labels[column].replaceAll("[\"\\-_ ]", "").toUpperCase(Locale.ROOT);
+            if(normalized.equals(label)) {
+                return column;
+            }
+        }
+        throw new RatingListImportFailedException("column %s not found in rating list".formatted(label));
+    }
+}
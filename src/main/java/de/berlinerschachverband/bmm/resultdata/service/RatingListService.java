@@ -0,0 +1,114 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.exceptions.BmmException;
+import de.berlinerschachverband.bmm.exceptions.RatingListImportFailedException;
+import de.berlinerschachverband.bmm.resultdata.data.RatingListImportReportData;
+import de.berlinerschachverband.bmm.resultdata.data.RatingListType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the ratings of the official rating lists by FIDE id. A rating list file is memory-mapped and parsed
+ * into an off-heap RatingIndex, so neither the file nor its hundreds of thousands of players are kept on the heap,
+ * and looking up a rating takes a few hash table probes. Importing a list replaces the ratings of its type
+ * atomically. The lists given by bmm.rating-list.fide and bmm.rating-list.dwz are imported after startup.
+ */
+@Service
+public class RatingListService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RatingListService.class);
+
+    private final Map<RatingListType, RatingIndex> ratingIndexes = new ConcurrentHashMap<>();
+
+    private final Map<RatingListType, String> configuredFiles = new EnumMap<>(RatingListType.class);
+
+    public RatingListService(@Value("${bmm.rating-list.fide:}") String fideFile,
+                             @Value("${bmm.rating-list.dwz:}") String dwzFile) {
+        configuredFiles.put(RatingListType.FIDE, fideFile);
+        configuredFiles.put(RatingListType.DWZ, dwzFile);
+    }
+
+    /**
+     * Import a rating list file, replacing the ratings of the list imported before.
+     * If the file cannot be read or lacks the FIDE id or rating column, a RatingListImportFailedException is thrown.
+     * @param type
+     * @param file
+     * @return
+     */
+    public RatingListImportReportData importRatingList(RatingListType type, Path file) {
+        long start = System.nanoTime();
+        RatingIndex ratingIndex;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if(channel.size() > Integer.MAX_VALUE) {
+                throw new RatingListImportFailedException("rating list %s is larger than 2 GB".formatted(file));
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            ratingIndex = RatingListParser.parse(buffer, type);
+        } catch (IOException ex) {
+            throw new RatingListImportFailedException("rating list %s could not be read: %s".formatted(file, ex.getMessage()));
+        }
+        ratingIndexes.put(type, ratingIndex);
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        LOGGER.info("imported {} ratings of the {} rating list {} in {} ms", ratingIndex.size(), type, file, durationMillis);
+        return new RatingListImportReportData(type, ratingIndex.size(), durationMillis);
+    }
+
+    /**
+     * Get the rating of a player, given by FIDE id.
+     * @param type
+     * @param fideId
+     * @return the rating, empty if the list is not imported or does not contain the player
+     */
+    public OptionalInt getRating(RatingListType type, int fideId) {
+        RatingIndex ratingIndex = ratingIndexes.get(type);
+        int rating = ratingIndex == null ? RatingIndex.NO_RATING : ratingIndex.get(fideId);
+        return rating == RatingIndex.NO_RATING ? OptionalInt.empty() : OptionalInt.of(rating);
+    }
+
+    /**
+     * Get the rating of a player, given by FIDE id as stored with the player.
+     * @param type
+     * @param fideId
+     * @return the rating, empty if the FIDE id is not a number or the player is not contained
+     */
+    public OptionalInt getRating(RatingListType type, String fideId) {
+        try {
+            return getRating(type, Integer.parseInt(fideId.strip()));
+        } catch (NumberFormatException ex) {
+            return OptionalInt.empty();
+        }
+    }
+
+    /**
+     * Import the configured rating lists in the background once the application is ready.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void importConfiguredRatingLists() {
+        configuredFiles.forEach((type, file) -> {
+            if(file.isBlank()) {
+                return;
+            }
+            try {
+                importRatingList(type, Path.of(file));
+            } catch (BmmException ex) {
+                LOGGER.warn("{} rating list not imported: {}", type, ex.getMessage());
+            }
+        });
+    }
+}
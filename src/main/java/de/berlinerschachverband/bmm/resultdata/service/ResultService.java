@@ -0,0 +1,160 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.events.MatchResultSubmittedEvent;
+import de.berlinerschachverband.bmm.exceptions.ConstraintViolations;
+import de.berlinerschachverband.bmm.exceptions.MatchNotFoundException;
+import de.berlinerschachverband.bmm.exceptions.MatchResultOutdatedException;
+import de.berlinerschachverband.bmm.resultdata.data.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Stores submitted match results. Results are only ever inserted: every submission of a match result
+ * is stored as a new revision of its boards, which makes concurrent submissions for different matches
+ * independent of each other. Concurrent submissions for the same match are serialized by locking the match,
+ * only the first of those based on the same revision is accepted.
+ */
+@Service
+public class ResultService {
+
+    private final BoardResultRepository boardResultRepository;
+
+    private final MatchRepository matchRepository;
+
+    private final PlayerRepository playerRepository;
+
+    private final DivisionService divisionService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ResultService(BoardResultRepository boardResultRepository,
+                         MatchRepository matchRepository,
+                         PlayerRepository playerRepository,
+                         DivisionService divisionService,
+                         ApplicationEventPublisher applicationEventPublisher) {
+        this.boardResultRepository = boardResultRepository;
+        this.matchRepository = matchRepository;
+        this.playerRepository = playerRepository;
+        this.divisionService = divisionService;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * Get the revision of the current result of a match, 0 if no result was submitted yet.
+     * @param matchId
+     * @return
+     */
+    public Integer getLatestRevision(Long matchId) {
+        return boardResultRepository.findLatestRevisionOfMatch(matchId).orElse(0);
+    }
+
+    /**
+     * Get the board results of the current result of a match, ordered by board number.
+     * @param matchId
+     * @return
+     */
+    public List<BoardResultData> getLatestBoardResults(Long matchId) {
+        return boardResultRepository.findByMatch_IdAndRevisionOrderByBoardNumber(matchId, getLatestRevision(matchId))
+                .stream()
+                .map(this::toBoardResultData)
+                .toList();
+    }
+
+    /**
+     * Get the scores of the current results of all matches of a division with a single query.
+     * @param divisionData
+     * @return
+     */
+    public List<MatchScoreData> getMatchScoresOfDivision(DivisionData divisionData) {
+        Map<Long, List<BoardResultOfMatchData>> boardResultsByMatchId = boardResultRepository
+                .findLatestBoardResultsOfDivision(divisionData.id())
+                .stream()
+                .collect(Collectors.groupingBy(BoardResultOfMatchData::matchId, LinkedHashMap::new, Collectors.toList()));
+        return boardResultsByMatchId.values().stream()
+                .map(this::toMatchScoreData)
+                .toList();
+    }
+
+    /**
+     * Submit the result of a match as a new revision. basedOnRevision is the revision of the result
+     * the submitter has seen, 0 for the first result of a match. If another result was submitted in the meantime,
+     * a MatchResultOutdatedException is thrown. After the transaction is committed, a MatchResultSubmittedEvent is published.
+     * @param matchId
+     * @param basedOnRevision
+     * @param boardResults
+     * @return
+     */
+    @Transactional
+    public MatchScoreData submitMatchResult(Long matchId, Integer basedOnRevision, Collection<BoardResultData> boardResults) {
+        if(boardResults.isEmpty()
+                || boardResults.stream().map(BoardResultData::boardNumber).distinct().count() != boardResults.size()) {
+            throw new IllegalArgumentException("board results of match " + matchId + " are empty or not unique");
+        }
+        // lock the match, so that submissions with different boards can't both create the same revision
+        Match match = matchRepository.findByIdForUpdate(matchId)
+                .orElseThrow(() -> new MatchNotFoundException("id: " + matchId));
+        if(!getLatestRevision(matchId).equals(basedOnRevision)) {
+            throw new MatchResultOutdatedException("match: " + matchId + ", revision: " + basedOnRevision);
+        }
+        int revision = basedOnRevision + 1;
+        List<BoardResult> newBoardResults = new ArrayList<>(boardResults.size());
+        for(BoardResultData boardResultData : boardResults) {
+            BoardResult boardResult = new BoardResult();
+            boardResult.setMatch(match);
+            boardResult.setBoardNumber(boardResultData.boardNumber());
+            boardResult.setRevision(revision);
+            boardResult.setHomePlayer(boardResultData.homePlayerId().map(playerRepository::getOne).orElse(null));
+            boardResult.setAwayPlayer(boardResultData.awayPlayerId().map(playerRepository::getOne).orElse(null));
+            boardResult.setResult(boardResultData.result());
+            newBoardResults.add(boardResult);
+        }
+        try {
+            boardResultRepository.saveAll(newBoardResults);
+            // flush here, so that a concurrent submission of the same revision fails within this method
+            boardResultRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if(ConstraintViolations.isViolationOf(e, BoardResult.MATCH_BOARD_REVISION_UK)) {
+                throw new MatchResultOutdatedException("match: " + matchId + ", revision: " + basedOnRevision);
+            }
+            throw e;
+        }
+        MatchScoreData matchScore = toMatchScoreData(newBoardResults.stream()
+                .map(boardResult -> new BoardResultOfMatchData(matchId, revision,
+                        match.getHomeTeam().getId(), match.getAwayTeam().getId(), boardResult.getResult()))
+                .toList());
+        DivisionData divisionData = divisionService.toDivisionData(match.getMatchDay().getDivision());
+        applicationEventPublisher.publishEvent(new MatchResultSubmittedEvent(divisionData, matchScore));
+        return matchScore;
+    }
+
+    private MatchScoreData toMatchScoreData(List<BoardResultOfMatchData> boardResults) {
+        BoardResultOfMatchData first = boardResults.get(0);
+        int homeBoardHalfPoints = 0;
+        int awayBoardHalfPoints = 0;
+        for(BoardResultOfMatchData boardResult : boardResults) {
+            homeBoardHalfPoints += boardResult.result().getHomeHalfPoints();
+            awayBoardHalfPoints += boardResult.result().getAwayHalfPoints();
+        }
+        return new MatchScoreData(first.matchId(), first.revision(), first.homeTeamId(), first.awayTeamId(),
+                homeBoardHalfPoints, awayBoardHalfPoints);
+    }
+
+    private BoardResultData toBoardResultData(BoardResult boardResult) {
+        return new BoardResultData(boardResult.getBoardNumber(),
+                Optional.ofNullable(boardResult.getHomePlayer()).map(Player::getId),
+                Optional.ofNullable(boardResult.getAwayPlayer()).map(Player::getId),
+                boardResult.getResult());
+    }
+}
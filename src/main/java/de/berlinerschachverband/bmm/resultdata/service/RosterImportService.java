@@ -0,0 +1,182 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.exceptions.ConstraintViolations;
+import de.berlinerschachverband.bmm.exceptions.RosterImportFailedException;
+import de.berlinerschachverband.bmm.resultdata.data.Player;
+import de.berlinerschachverband.bmm.resultdata.data.PlayerBoardData;
+import de.berlinerschachverband.bmm.resultdata.data.PlayerRepository;
+import de.berlinerschachverband.bmm.resultdata.data.RosterImportReportData;
+import de.berlinerschachverband.bmm.resultdata.data.SkippedRosterRowData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Imports the rosters of the teams of a season from CSV, one player per row:
+ * club;team number;board number;name;FIDE id (optional), with a header row.
+ * The file is streamed, teams are looked up in a map loaded with a single query and boards already taken
+ * are tracked in a primitive set, so memory does not grow with the size of the rows. Players are inserted
+ * in JDBC batches of bmm.roster-import.batch-size within a single transaction. Invalid rows are skipped and reported.
+ */
+@Service
+public class RosterImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RosterImportService.class);
+
+    static final int MAX_REPORTED_SKIPPED_ROWS = 100;
+
+    private static final char SEPARATOR = ';';
+    private static final String INSERT_PLAYER = "insert into player (name, fide_id, team_id, number) values (?, ?, ?, ?)";
+
+    private final TeamService teamService;
+
+    private final PlayerRepository playerRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int batchSize;
+
+    public RosterImportService(TeamService teamService,
+                               PlayerRepository playerRepository,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${bmm.roster-import.batch-size:500}") int batchSize) {
+        this.teamService = teamService;
+        this.playerRepository = playerRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import the players of the given CSV into the teams of a season. Teams are identified by club name and
+     * team number among the teams assigned to a division of the season. A board number can only be taken once
+     * per team, including players imported before. If the CSV cannot be read or a board was taken by
+     * a concurrent import, nothing is imported and a RosterImportFailedException is thrown.
+     * @param seasonData
+     * @param csv
+     * @return
+     */
+    @Transactional
+    public RosterImportReportData importRosters(SeasonData seasonData, Reader csv) {
+        long start = System.nanoTime();
+        Map<TeamKey, Long> teamIds = teamService.getTeamsByDivisionOfSeason(seasonData).values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(team -> new TeamKey(team.clubData().name(), team.number()), TeamData::id));
+        List<PlayerBoardData> boardsOfSeason = playerRepository.findBoardsOfSeason(seasonData.id());
+        LongHashSet takenBoards = new LongHashSet(boardsOfSeason.size());
+        boardsOfSeason.forEach(board -> takenBoards.add(boardKey(board.teamId(), board.number())));
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        List<SkippedRosterRowData> skippedRows = new ArrayList<>();
+        long numberOfImportedPlayers = 0;
+        long numberOfSkippedRows = 0;
+        try {
+            CsvReader csvReader = new CsvReader(new BufferedReader(csv), SEPARATOR);
+            if(csvReader.nextRecord() == null) {
+                throw new RosterImportFailedException("empty roster file");
+            }
+            List<String> row;
+            while((row = csvReader.nextRecord()) != null) {
+                String reason = addPlayer(row, teamIds, takenBoards, batch);
+                if(reason != null) {
+                    numberOfSkippedRows++;
+                    if(skippedRows.size() < MAX_REPORTED_SKIPPED_ROWS) {
+                        skippedRows.add(new SkippedRosterRowData(csvReader.getLineNumber(), reason));
+                    }
+                } else if(batch.size() == batchSize) {
+                    numberOfImportedPlayers += insertPlayers(batch);
+                }
+            }
+        } catch (IOException ex) {
+            throw new RosterImportFailedException("roster file could not be read: " + ex.getMessage());
+        }
+        numberOfImportedPlayers += insertPlayers(batch);
+
+        long durationMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        long playersPerSecond = numberOfImportedPlayers * 1000 / durationMillis;
+        LOGGER.info("imported {} players into season {} in {} ms ({} players/s), {} rows skipped",
+                numberOfImportedPlayers, seasonData.name(), durationMillis, playersPerSecond, numberOfSkippedRows);
+        return new RosterImportReportData(numberOfImportedPlayers, numberOfSkippedRows, skippedRows,
+                durationMillis, playersPerSecond);
+    }
+
+    /**
+     * Validate a row and add its player to the batch.
+     * @return the reason why the row is skipped, null if the player was added
+     */
+    private String addPlayer(List<String> row, Map<TeamKey, Long> teamIds, LongHashSet takenBoards, List<Object[]> batch) {
+        if(row.size() < 4 || row.size() > 5) {
+            return "4 oder 5 Spalten erwartet, %d gefunden".formatted(row.size());
+        }
+        int teamNumber = parseNumber(row.get(1));
+        if(teamNumber < 1) {
+            return "ungültige Mannschaftsnummer: " + row.get(1);
+        }
+        int boardNumber = parseNumber(row.get(2));
+        if(boardNumber < 1 || boardNumber > Player.MAX_BOARD_NUMBER) {
+            return "ungültige Brettnummer: " + row.get(2);
+        }
+        String name = row.get(3);
+        if(name.isEmpty()) {
+            return "Name fehlt";
+        }
+        Long teamId = teamIds.get(new TeamKey(row.get(0), teamNumber));
+        if(teamId == null) {
+            return "Mannschaft %s %d spielt nicht in dieser Saison".formatted(row.get(0), teamNumber);
+        }
+        if(!takenBoards.add(boardKey(teamId, boardNumber))) {
+            return "Brett %d der Mannschaft %s %d ist bereits vergeben".formatted(boardNumber, row.get(0), teamNumber);
+        }
+        String fideId = row.size() == 5 && !row.get(4).isEmpty() ? row.get(4) : null;
+        batch.add(new Object[]{name, fideId, teamId, boardNumber});
+        return null;
+    }
+
+    private int insertPlayers(List<Object[]> batch) {
+        if(batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_PLAYER, batch);
+        } catch (DataIntegrityViolationException ex) {
+            // the taken boards are read at the start of the import, boards of a concurrent import are missing
+            if(ConstraintViolations.isViolationOf(ex, Player.TEAM_NUMBER_UK)) {
+                throw new RosterImportFailedException(
+                        "board taken by a concurrent import: " + ex.getMostSpecificCause().getMessage());
+            }
+            throw ex;
+        }
+        int inserted = batch.size();
+        batch.clear();
+        return inserted;
+    }
+
+    private static int parseNumber(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private static long boardKey(long teamId, int boardNumber) {
+        return teamId * (Player.MAX_BOARD_NUMBER + 1) + boardNumber;
+    }
+
+    private record TeamKey(String clubName, int number) {
+    }
+}
@@ -1,19 +1,100 @@
 package de.berlinerschachverband.bmm.resultdata.service;
 
 import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
+import de.berlinerschachverband.bmm.events.MatchResultSubmittedEvent;
+import de.berlinerschachverband.bmm.events.StandingsChangedEvent;
+import de.berlinerschachverband.bmm.resultdata.data.MatchScoreData;
 import de.berlinerschachverband.bmm.resultdata.data.thymeleaf.RegularDivisionTableData;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
+/**
+ * Keeps the standings of all divisions in memory. Standings of a division are set up from the stored
+ * match results on first access and are updated incrementally for every submitted match result afterwards,
+ * so requesting a table never needs to aggregate the match days of a division.
+ */
 @Service
 public class TableService {
 
+    private final TeamService teamService;
+
+    private final ResultService resultService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final Map<Long, DivisionStandings> standingsByDivisionId = new ConcurrentHashMap<>();
+
+    public TableService(TeamService teamService,
+                        ResultService resultService,
+                        ApplicationEventPublisher applicationEventPublisher) {
+        this.teamService = teamService;
+        this.resultService = resultService;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * Get the table of a regular (round robin) division, ordered by position.
+     * @param divisionData
+     * @return
+     */
     public List<RegularDivisionTableData> getRegularTable(DivisionData divisionData) {
-        List<RegularDivisionTableData> regularTableData = new ArrayList<>();
+        return getStandings(divisionData).getTable();
+    }
+
+    /**
+     * Update the standings with a submitted match result, asynchronously after it was committed,
+     * so that submitting results does not wait for the standings. The division page changes only once
+     * the standings are updated. Live ticker subscribers are only notified if the score actually changed the standings.
+     * @param matchResultSubmittedEvent
+     */
+    @Async
+    @TransactionalEventListener
+    public void onMatchResultSubmitted(MatchResultSubmittedEvent matchResultSubmittedEvent) {
+        DivisionData divisionData = matchResultSubmittedEvent.divisionData();
+        MatchScoreData matchScore = matchResultSubmittedEvent.matchScore();
+        // The result is committed already, so standings set up right now would contain it and ignore the score.
+        // The stored scores of the match are left out instead and the score is applied like on warm standings.
+        DivisionStandings divisionStandings = getStandings(divisionData,
+                storedMatchScore -> !storedMatchScore.matchId().equals(matchScore.matchId()));
+        if(divisionStandings.applyMatchScore(matchScore)) {
+            applicationEventPublisher.publishEvent(new StandingsChangedEvent(
+                    divisionData, matchScore, divisionStandings.getTable()));
+        }
+        publishContentChanged(divisionData);
+    }
+
+    /**
+     * Every change of the standings changes the division page, cached pages and ETags of it are outdated.
+     */
+    private void publishContentChanged(DivisionData divisionData) {
+        applicationEventPublisher.publishEvent(
+                new ContentChangedEvent(divisionData.season().name(), Optional.of(divisionData.name())));
+    }
+
+    private DivisionStandings getStandings(DivisionData divisionData) {
+        return getStandings(divisionData, storedMatchScore -> true);
+    }
 
-        return regularTableData;
+    /**
+     * Get the standings of a division, if they are not in memory yet, they are set up with the stored
+     * match scores accepted by the given filter.
+     */
+    private DivisionStandings getStandings(DivisionData divisionData, Predicate<MatchScoreData> storedMatchScores) {
+        return standingsByDivisionId.computeIfAbsent(divisionData.id(),
+                divisionId -> new DivisionStandings(teamService.getTeamsOfDivision(divisionData),
+                        resultService.getMatchScoresOfDivision(divisionData).stream()
+                                .filter(storedMatchScores)
+                                .toList()));
     }
 
 }
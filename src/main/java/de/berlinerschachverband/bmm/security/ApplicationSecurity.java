@@ -2,39 +2,31 @@ package de.berlinerschachverband.bmm.security;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import javax.sql.DataSource;
-
+/**
+ * Form login authenticates against the BmmUserDetailsService, which Spring Security picks up
+ * together with the password encoder as the only UserDetailsService bean.
+ */
 @Configuration
-@EnableGlobalMethodSecurity(securedEnabled = true, jsr250Enabled = true)
+@EnableGlobalMethodSecurity(prePostEnabled = true, securedEnabled = true, jsr250Enabled = true)
 public class ApplicationSecurity extends WebSecurityConfigurerAdapter {
 
-    private final DataSource dataSource;
-
-    public ApplicationSecurity(DataSource dataSource) {
-        this.dataSource = dataSource;
-    }
-
     @Bean
     public PasswordEncoder encoder() {
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
     }
 
-    @Override
-    public void configure(AuthenticationManagerBuilder builder) throws Exception {
-        builder.jdbcAuthentication().dataSource(dataSource).passwordEncoder(encoder());
-    }
-
     @Override
     public void configure(final HttpSecurity http) throws Exception {
         http.authorizeRequests()
-                .antMatchers("/", "/index.html", "/home", "/season/**", "division/**").permitAll()
+                .antMatchers("/", "/index.html", "/home", "/season/**", "/division/**").permitAll()
+                .antMatchers(HttpMethod.GET, "/api/**").permitAll()
                 .anyRequest().authenticated()
                 .and()
                 .formLogin().permitAll()
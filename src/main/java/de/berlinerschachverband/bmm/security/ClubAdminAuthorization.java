@@ -0,0 +1,38 @@
+package de.berlinerschachverband.bmm.security;
+
+import de.berlinerschachverband.bmm.security.data.BmmUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks club admin privileges in method security expressions, e.g.
+ * {@code @PreAuthorize("@clubAdminAuthorization.isClubAdmin(authentication, #clubName)")}.
+ * The clubs are taken from the principal, which got them at login.
+ */
+@Component("clubAdminAuthorization")
+public class ClubAdminAuthorization {
+
+    /**
+     * Whether the authenticated user is club admin of the club with the given name.
+     * @param authentication
+     * @param clubName
+     * @return
+     */
+    public boolean isClubAdmin(Authentication authentication, String clubName) {
+        return authentication != null
+                && authentication.getPrincipal() instanceof BmmUser user
+                && user.isClubAdminOf(clubName);
+    }
+
+    /**
+     * Whether the authenticated user is club admin of the club with the given id.
+     * @param authentication
+     * @param clubId
+     * @return
+     */
+    public boolean isClubAdmin(Authentication authentication, Long clubId) {
+        return authentication != null
+                && authentication.getPrincipal() instanceof BmmUser user
+                && user.isClubAdminOf(clubId);
+    }
+}
@@ -0,0 +1,122 @@
+package de.berlinerschachverband.bmm.security;
+
+import de.berlinerschachverband.bmm.security.data.BmmUser;
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serializes session attributes for the session store. The security context of a logged in user,
+ * which is read on every request, is written in a compact binary format: username, enabled flag,
+ * authorities and clubs of the principal, about a twentieth of its Java serialization. The details of
+ * the login request are not kept. All other attributes, and security contexts that do not hold
+ * a BmmUser with erased credentials, use Java serialization.
+ */
+class SessionAttributeSerializer implements Serializer<Object>, Deserializer<Object> {
+
+    private static final int JAVA_SERIALIZATION = 0;
+    private static final int SECURITY_CONTEXT = 1;
+
+    private final DefaultSerializer javaSerializer = new DefaultSerializer();
+    private final DefaultDeserializer javaDeserializer;
+
+    SessionAttributeSerializer(ClassLoader classLoader) {
+        this.javaDeserializer = new DefaultDeserializer(classLoader);
+    }
+
+    @Override
+    public void serialize(Object attribute, OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+        if(isCompact(attribute)) {
+            output.writeByte(SECURITY_CONTEXT);
+            writeSecurityContext((SecurityContext) attribute, output);
+        } else {
+            output.writeByte(JAVA_SERIALIZATION);
+            javaSerializer.serialize(attribute, output);
+        }
+        output.flush();
+    }
+
+    @Override
+    public Object deserialize(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(inputStream);
+        int format = input.readUnsignedByte();
+        return switch(format) {
+            case SECURITY_CONTEXT -> readSecurityContext(input);
+            case JAVA_SERIALIZATION -> javaDeserializer.deserialize(input);
+            default -> throw new IOException("unknown session attribute format " + format);
+        };
+    }
+
+    private static boolean isCompact(Object attribute) {
+        return attribute instanceof SecurityContext securityContext
+                && securityContext.getClass() == SecurityContextImpl.class
+                && securityContext.getAuthentication() instanceof UsernamePasswordAuthenticationToken authentication
+                && authentication.getClass() == UsernamePasswordAuthenticationToken.class
+                && authentication.isAuthenticated()
+                && authentication.getCredentials() == null
+                && (authentication.getDetails() == null || authentication.getDetails() instanceof WebAuthenticationDetails)
+                && authentication.getPrincipal() instanceof BmmUser user
+                && user.getClass() == BmmUser.class
+                && user.getPassword() == null
+                && user.isAccountNonExpired() && user.isAccountNonLocked() && user.isCredentialsNonExpired()
+                && new HashSet<>(authentication.getAuthorities()).equals(new HashSet<>(user.getAuthorities()));
+    }
+
+    private static void writeSecurityContext(SecurityContext securityContext, DataOutputStream output) throws IOException {
+        BmmUser user = (BmmUser) securityContext.getAuthentication().getPrincipal();
+        output.writeUTF(user.getUsername());
+        output.writeBoolean(user.isEnabled());
+        output.writeShort(user.getAuthorities().size());
+        for(GrantedAuthority authority : user.getAuthorities()) {
+            output.writeUTF(authority.getAuthority());
+        }
+        output.writeShort(user.getClubIds().size());
+        for(Long clubId : user.getClubIds()) {
+            output.writeLong(clubId);
+        }
+        output.writeShort(user.getClubNames().size());
+        for(String clubName : user.getClubNames()) {
+            output.writeUTF(clubName);
+        }
+    }
+
+    private static SecurityContext readSecurityContext(DataInputStream input) throws IOException {
+        String username = input.readUTF();
+        boolean enabled = input.readBoolean();
+        List<String> authorities = new ArrayList<>();
+        for(int count = input.readUnsignedShort(); count > 0; count--) {
+            authorities.add(input.readUTF());
+        }
+        Set<Long> clubIds = new HashSet<>();
+        for(int count = input.readUnsignedShort(); count > 0; count--) {
+            clubIds.add(input.readLong());
+        }
+        Set<String> clubNames = new HashSet<>();
+        for(int count = input.readUnsignedShort(); count > 0; count--) {
+            clubNames.add(input.readUTF());
+        }
+        // the password was erased after login, User does not accept a null password though
+        BmmUser user = new BmmUser(username, "", enabled,
+                AuthorityUtils.createAuthorityList(authorities.toArray(String[]::new)), clubIds, clubNames);
+        user.eraseCredentials();
+        return new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
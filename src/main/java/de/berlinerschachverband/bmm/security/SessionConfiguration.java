@@ -0,0 +1,26 @@
+package de.berlinerschachverband.bmm.security;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+/**
+ * Sessions are kept in the database by Spring Session JDBC, so logins survive restarts and deployments.
+ * Attributes are converted with the SessionAttributeSerializer and written only when they are set,
+ * expired sessions are deleted by the SessionCleanupService.
+ */
+@Configuration
+public class SessionConfiguration {
+
+    @Bean("springSessionConversionService")
+    public ConversionService springSessionConversionService() {
+        SessionAttributeSerializer serializer = new SessionAttributeSerializer(getClass().getClassLoader());
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, new SerializingConverter(serializer));
+        conversionService.addConverter(byte[].class, Object.class, new DeserializingConverter(serializer));
+        return conversionService;
+    }
+}
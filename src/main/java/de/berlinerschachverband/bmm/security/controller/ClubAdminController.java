@@ -0,0 +1,69 @@
+package de.berlinerschachverband.bmm.security.controller;
+
+import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.exceptions.BmmException;
+import de.berlinerschachverband.bmm.security.Roles;
+import de.berlinerschachverband.bmm.security.data.ClubAdminData;
+import de.berlinerschachverband.bmm.security.service.ClubAdminService;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+
+import javax.annotation.security.RolesAllowed;
+
+@Controller
+public class ClubAdminController {
+
+    private final ClubAdminService clubAdminService;
+    private final ClubService clubService;
+
+    public ClubAdminController(ClubAdminService clubAdminService, ClubService clubService) {
+        this.clubAdminService = clubAdminService;
+        this.clubService = clubService;
+    }
+
+    @RolesAllowed(Roles.ADMINISTRATOR)
+    @GetMapping("/administration/clubAdmins")
+    public String clubAdmins(final Model model) {
+        model.addAttribute("clubAdminData", new ClubAdminData());
+        model.addAttribute("clubNames", clubService.getAllActiveClubsNames());
+        return "clubAdmins";
+    }
+
+    @RolesAllowed(Roles.ADMINISTRATOR)
+    @PostMapping("/administration/clubAdmins/add")
+    public String addClubAdmin(@ModelAttribute ClubAdminData clubAdminData, final Model model) {
+        model.addAttribute("clubAdminData", clubAdminData);
+        model.addAttribute("action", "add");
+        try {
+            clubAdminService.addClubAdmin(clubAdminData.getUsername(), clubAdminData.getClubName());
+            model.addAttribute("state", "success");
+        } catch (BmmException ex) {
+            model.addAttribute("state", "failure");
+        }
+        return "clubAdminsChanged";
+    }
+
+    /**
+     * Revoke the admin privileges of a user for a club, the user is logged out of all sessions.
+     * Fails if the user does not administrate the club.
+     * @param clubAdminData
+     * @param model
+     * @return
+     */
+    @RolesAllowed(Roles.ADMINISTRATOR)
+    @PostMapping("/administration/clubAdmins/remove")
+    public String removeClubAdmin(@ModelAttribute ClubAdminData clubAdminData, final Model model) {
+        model.addAttribute("clubAdminData", clubAdminData);
+        model.addAttribute("action", "remove");
+        try {
+            clubAdminService.removeClubAdmin(clubAdminData.getUsername(), clubAdminData.getClubName());
+            model.addAttribute("state", "success");
+        } catch (BmmException ex) {
+            model.addAttribute("state", "failure");
+        }
+        return "clubAdminsChanged";
+    }
+}
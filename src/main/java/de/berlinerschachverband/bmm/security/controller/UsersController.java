@@ -4,7 +4,6 @@ import de.berlinerschachverband.bmm.exceptions.BmmException;
 import de.berlinerschachverband.bmm.exceptions.UserAlreadyExistsException;
 import de.berlinerschachverband.bmm.security.data.ChangePasswordData;
 import de.berlinerschachverband.bmm.security.data.CreateUserData;
-import de.berlinerschachverband.bmm.navigation.service.NavbarService;
 import de.berlinerschachverband.bmm.security.Roles;
 import de.berlinerschachverband.bmm.security.service.UsersService;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,18 +19,15 @@ import javax.annotation.security.RolesAllowed;
 @Controller
 public class UsersController {
 
-    private final NavbarService navbarService;
     private final UsersService usersService;
 
-    public UsersController(NavbarService navbarService, UsersService usersService) {
-        this.navbarService = navbarService;
+    public UsersController(UsersService usersService) {
         this.usersService = usersService;
     }
 
     @RolesAllowed(Roles.ADMINISTRATOR)
     @GetMapping("/administration/createUser")
     public String createUser(final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         model.addAttribute("createUserData", new CreateUserData());
         return "createUser";
     }
@@ -39,7 +35,6 @@ public class UsersController {
     @RolesAllowed(Roles.ADMINISTRATOR)
     @PostMapping("/administration/createUser")
     public String createUser(@ModelAttribute CreateUserData createUserData, final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         if(createUserData.getPassword().isBlank()) {
             model.addAttribute("errorMessage", "Das Passwort darf nicht leer sein.");
             return "createUser";
@@ -65,7 +60,6 @@ public class UsersController {
     @RolesAllowed({Roles.USER, Roles.ADMINISTRATOR, Roles.TEAM_ADMIN, Roles.CLUB_ADMIN})
     @GetMapping("/administration/changePassword")
     public String changePassword(final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         model.addAttribute("changePasswordData", new ChangePasswordData());
         return "changePassword";
     }
@@ -74,7 +68,6 @@ public class UsersController {
     @PostMapping("/administration/changePassword")
     public String changePassword(@ModelAttribute ChangePasswordData changePasswordData,
                                  final Model model) {
-        model.addAttribute("navbarData", navbarService.getNavbarData());
         if(Boolean.TRUE.equals(changePasswordData.getNewPassword().isBlank())) {
             model.addAttribute("errorMessage", "Das Passwort darf nicht leer sein.");
             return "changePassword";
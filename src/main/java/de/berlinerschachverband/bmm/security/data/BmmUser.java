@@ -0,0 +1,46 @@
+package de.berlinerschachverband.bmm.security.data;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * The principal of a logged in user. Besides the authorities it holds the ids and names of the clubs
+ * the user is club admin of, as they were at login, so checking club admin privileges needs no database access.
+ * When a club is taken away from a user, the sessions of the user are deleted.
+ */
+public class BmmUser extends User {
+
+    private final Set<Long> clubIds;
+    private final Set<String> clubNames;
+
+    public BmmUser(String username,
+                   String password,
+                   boolean enabled,
+                   Collection<? extends GrantedAuthority> authorities,
+                   Set<Long> clubIds,
+                   Set<String> clubNames) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.clubIds = Set.copyOf(clubIds);
+        this.clubNames = Set.copyOf(clubNames);
+    }
+
+    public Set<Long> getClubIds() {
+        return clubIds;
+    }
+
+    public Set<String> getClubNames() {
+        return clubNames;
+    }
+
+    public boolean isClubAdminOf(String clubName) {
+        return clubNames.contains(clubName);
+    }
+
+    public boolean isClubAdminOf(Long clubId) {
+        return clubIds.contains(clubId);
+    }
+
+}
@@ -0,0 +1,23 @@
+package de.berlinerschachverband.bmm.security.data;
+
+public class ClubAdminData {
+
+    private String username;
+    private String clubName;
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getClubName() {
+        return clubName;
+    }
+
+    public void setClubName(String clubName) {
+        this.clubName = clubName;
+    }
+}
@@ -0,0 +1,16 @@
+package de.berlinerschachverband.bmm.security.data;
+
+import de.berlinerschachverband.bmm.basedata.data.ClubData;
+
+import java.util.List;
+
+/**
+ * Everything needed to authenticate and authorize a user: the encoded password, the authorities
+ * and the clubs (ordered alphabetically by club name) the user has admin privileges for.
+ */
+public record UserAccountData(String username,
+                              String password,
+                              boolean enabled,
+                              List<String> authorities,
+                              List<ClubData> clubs) {
+}
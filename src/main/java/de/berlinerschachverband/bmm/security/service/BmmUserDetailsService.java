@@ -0,0 +1,121 @@
+package de.berlinerschachverband.bmm.security.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.security.data.BmmUser;
+import de.berlinerschachverband.bmm.security.data.ClubAdmin;
+import de.berlinerschachverband.bmm.security.data.ClubAdminRepository;
+import de.berlinerschachverband.bmm.security.data.UserAccountData;
+import de.berlinerschachverband.bmm.security.data.Users;
+import de.berlinerschachverband.bmm.security.data.UsersRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Loads users for form login. The account of a user, i.e. password, authorities and the clubs the user
+ * is club admin of, is read once and kept in a cache bounded by bmm.user-cache.maximum-size, entries expire
+ * bmm.user-cache.expire-after-write after they were loaded. The entry of a user is invalidated whenever
+ * the password or the club admin memberships of the user change.
+ */
+@Service
+public class BmmUserDetailsService implements UserDetailsService {
+
+    private final UsersRepository usersRepository;
+    private final ClubAdminRepository clubAdminRepository;
+    private final ClubService clubService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Cache<String, UserAccountData> userAccounts;
+
+    public BmmUserDetailsService(UsersRepository usersRepository,
+                                 ClubAdminRepository clubAdminRepository,
+                                 ClubService clubService,
+                                 JdbcTemplate jdbcTemplate,
+                                 @Value("${bmm.user-cache.maximum-size:1000}") long maximumSize,
+                                 @Value("${bmm.user-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.usersRepository = usersRepository;
+        this.clubAdminRepository = clubAdminRepository;
+        this.clubService = clubService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userAccounts = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /**
+     * Build the principal from the cached account, including the ids and names of the clubs the user
+     * is club admin of. A new instance is returned on every call, since Spring Security erases
+     * the credentials of the instance after authentication.
+     * @param username
+     * @return
+     */
+    @Override
+    public BmmUser loadUserByUsername(String username) {
+        UserAccountData userAccount = getUserAccount(username);
+        return new BmmUser(userAccount.username(),
+                userAccount.password(),
+                userAccount.enabled(),
+                AuthorityUtils.createAuthorityList(userAccount.authorities().toArray(String[]::new)),
+                userAccount.clubs().stream().map(ClubData::id).collect(Collectors.toSet()),
+                userAccount.clubs().stream().map(ClubData::name).collect(Collectors.toSet()));
+    }
+
+    /**
+     * Get the account of a user, given by username, from the cache. If the user does not exist
+     * or has no authorities, a UsernameNotFoundException is thrown.
+     * @param username
+     * @return
+     */
+    public UserAccountData getUserAccount(String username) {
+        try {
+            return userAccounts.get(username, () -> loadUserAccount(username));
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            if(ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Drop the cached account of a user, it is loaded again on next access.
+     * @param username
+     */
+    public void invalidate(String username) {
+        userAccounts.invalidate(username);
+    }
+
+    private UserAccountData loadUserAccount(String username) {
+        Users user = usersRepository.findById(username)
+                .orElseThrow(() -> new UsernameNotFoundException(username));
+        // authorities has no entity, it is the table of Spring Security's JdbcDaoImpl
+        List<String> authorities = jdbcTemplate.queryForList(
+                "select authority from authorities where username = ?", String.class, username);
+        if(authorities.isEmpty()) {
+            // same as JdbcDaoImpl, a user without authorities cannot log in
+            throw new UsernameNotFoundException(username);
+        }
+        List<ClubData> clubs = clubAdminRepository.findByUsers_Username(username)
+                .stream()
+                .map(ClubAdmin::getClub)
+                .map(clubService::toClubData)
+                .sorted(Comparator.comparing(ClubData::name))
+                .toList();
+        return new UserAccountData(user.getUsername(), user.getPassword(), Boolean.TRUE.equals(user.getEnabled()),
+                List.copyOf(authorities), clubs);
+    }
+}
@@ -2,37 +2,92 @@ package de.berlinerschachverband.bmm.security.service;
 
 import de.berlinerschachverband.bmm.basedata.data.ClubData;
 import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.exceptions.ClubAdminNotFoundException;
+import de.berlinerschachverband.bmm.exceptions.UserDoesNotExistException;
 import de.berlinerschachverband.bmm.security.data.ClubAdmin;
 import de.berlinerschachverband.bmm.security.data.ClubAdminRepository;
+import de.berlinerschachverband.bmm.security.data.UsersRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
 
 @Service
 public class ClubAdminService {
 
     private final ClubAdminRepository clubAdminRepository;
+    private final UsersRepository usersRepository;
     private final ClubService clubService;
+    private final BmmUserDetailsService userDetailsService;
+    private final ObjectProvider<FindByIndexNameSessionRepository<?>> sessionRepository;
 
     public ClubAdminService(ClubAdminRepository clubAdminRepository,
-                            ClubService clubService) {
+                            UsersRepository usersRepository,
+                            ClubService clubService,
+                            BmmUserDetailsService userDetailsService,
+                            ObjectProvider<FindByIndexNameSessionRepository<?>> sessionRepository) {
         this.clubAdminRepository = clubAdminRepository;
+        this.usersRepository = usersRepository;
         this.clubService = clubService;
+        this.userDetailsService = userDetailsService;
+        this.sessionRepository = sessionRepository;
     }
 
     /**
      * Provide a list of clubs (ordered alphabetically by club name) of all
      * the clubs that a user, given by username, has admin privileges for.
+     * The clubs are taken from the cached account of the user.
      * @param username
      * @return
      */
     public List<ClubData> findClubsByUsername(String username) {
-        return clubAdminRepository.findByUsers_Username(username)
+        try {
+            return userDetailsService.getUserAccount(username).clubs();
+        } catch (UsernameNotFoundException ex) {
+            return List.of();
+        }
+    }
+
+    /**
+     * Give a user admin privileges for a club, nothing happens if the user has them already.
+     * @param username
+     * @param clubName
+     */
+    public void addClubAdmin(String username, String clubName) {
+        if(clubAdminRepository.findByUsers_Username(username).stream()
+                .anyMatch(clubAdmin -> clubAdmin.getClub().getName().equals(clubName))) {
+            return;
+        }
+        ClubAdmin clubAdmin = new ClubAdmin();
+        clubAdmin.setUser(usersRepository.findById(username)
+                .orElseThrow(() -> new UserDoesNotExistException(username)));
+        clubAdmin.setClub(clubService.getClub(clubName));
+        clubAdminRepository.saveAndFlush(clubAdmin);
+        userDetailsService.invalidate(username);
+    }
+
+    /**
+     * Revoke the admin privileges of a user for a club. The principal of a logged in user still holds
+     * the club, so all sessions of the user are deleted and the user has to log in again.
+     * @param username
+     * @param clubName
+     * @throws ClubAdminNotFoundException if the user has no admin privileges for the club
+     */
+    public void removeClubAdmin(String username, String clubName) {
+        List<ClubAdmin> clubAdmins = clubAdminRepository.findByUsers_Username(username)
                 .stream()
-                .map(ClubAdmin::getClub)
-                .map(clubService::toClubData)
-                .sorted(Comparator.comparing(ClubData::name))
+                .filter(clubAdmin -> clubAdmin.getClub().getName().equals(clubName))
                 .toList();
+        if(clubAdmins.isEmpty()) {
+            throw new ClubAdminNotFoundException(username, clubName);
+        }
+        clubAdminRepository.deleteAll(clubAdmins);
+        userDetailsService.invalidate(username);
+        // there is no session repository if sessions are not stored, i.e. spring.session.store-type=none
+        sessionRepository.ifAvailable(repository -> repository.findByPrincipalName(username)
+                .keySet()
+                .forEach(repository::deleteById));
     }
 }
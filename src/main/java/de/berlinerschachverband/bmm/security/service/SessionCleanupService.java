@@ -0,0 +1,55 @@
+package de.berlinerschachverband.bmm.security.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Deletes expired sessions from the session store. Instead of a single delete of all expired sessions,
+ * which holds locks on the session table for as long as it runs, sessions are deleted in batches of
+ * bmm.session.cleanup.batch-size until no expired session is left. Their attributes are deleted by cascade.
+ * The service is never initialized lazily, otherwise nothing would schedule the cleanup.
+ */
+@Service
+@Lazy(false)
+@ConditionalOnProperty(name = "spring.session.store-type", havingValue = "jdbc")
+public class SessionCleanupService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionCleanupService.class);
+
+    private static final String DELETE_EXPIRED_SESSIONS = "delete from SPRING_SESSION where EXPIRY_TIME < ? limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int batchSize;
+
+    public SessionCleanupService(JdbcTemplate jdbcTemplate,
+                                 @Value("${bmm.session.cleanup.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Delete all sessions that expired before now.
+     * @return the number of deleted sessions
+     */
+    @Scheduled(cron = "${bmm.session.cleanup.cron:0 * * * * *}")
+    public int deleteExpiredSessions() {
+        long now = System.currentTimeMillis();
+        int deletedSessions = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED_SESSIONS, now, batchSize);
+            deletedSessions += deleted;
+        } while(deleted == batchSize);
+        if(deletedSessions > 0) {
+            LOGGER.debug("deleted {} expired sessions", deletedSessions);
+        }
+        return deletedSessions;
+    }
+}
@@ -17,9 +17,14 @@ public class UsersService {
 
     private final UsersRepository usersRepository;
 
-    public UsersService(UsersRepository usersRepository, PasswordEncoder passwordEncoder) {
+    private final BmmUserDetailsService userDetailsService;
+
+    public UsersService(UsersRepository usersRepository,
+                        PasswordEncoder passwordEncoder,
+                        BmmUserDetailsService userDetailsService) {
         this.usersRepository = usersRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsService = userDetailsService;
     }
 
     public void createUser(CreateUserData createUserData) {
@@ -44,5 +49,6 @@ public class UsersService {
         }
         user.setPassword(passwordEncoder.encode(changePasswordData.getNewPassword()));
         usersRepository.saveAndFlush(user);
+        userDetailsService.invalidate(username);
     }
 }
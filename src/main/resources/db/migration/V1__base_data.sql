@@ -0,0 +1,66 @@
+-- Seasons, divisions, clubs, teams and users. Kept to SQL that MariaDB and H2 both understand.
+
+create table season (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    primary key (id),
+    constraint SEASON_NAME_UK unique (name)
+);
+
+create table division (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    level integer not null,
+    season_id bigint not null,
+    primary key (id),
+    constraint DIVISION_SEASON_NAME_UK unique (season_id, name),
+    constraint DIVISION_SEASON_ID_FK foreign key (season_id) references season (id)
+);
+
+create table club (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    active boolean not null,
+    primary key (id),
+    constraint CLUB_NAME_UK unique (name)
+);
+
+create index CLUB_ACTIVE_NAME_IDX on club (active, name);
+
+create sequence team_sequence start with 1 increment by 50;
+
+create table team (
+    id bigint not null,
+    club_id bigint not null,
+    division_id bigint,
+    number integer not null,
+    primary key (id),
+    constraint TEAM_CLUB_ID_FK foreign key (club_id) references club (id),
+    constraint TEAM_DIVISION_ID_FK foreign key (division_id) references division (id)
+);
+
+create index TEAM_CLUB_NUMBER_IDX on team (club_id, number);
+
+create table users (
+    username varchar(255) not null,
+    password varchar(255) not null,
+    enabled boolean not null,
+    primary key (username)
+);
+
+-- read by Spring Security's jdbcAuthentication, it has no entity
+create table if not exists authorities (
+    username varchar(255) not null,
+    authority varchar(50) not null,
+    constraint AUTHORITIES_USERNAME_AUTHORITY_UK unique (username, authority),
+    constraint AUTHORITIES_USERNAME_FK foreign key (username) references users (username)
+);
+
+create table club_admin (
+    id bigint not null auto_increment,
+    users_username varchar(255) not null,
+    club_id bigint not null,
+    primary key (id),
+    constraint CLUBADMIN_USERNAME_FK foreign key (users_username) references users (username),
+    constraint CLUBADMIN_CLUB_ID_FK foreign key (club_id) references club (id)
+);
@@ -0,0 +1,55 @@
+-- Match days, matches, players and board results, the tables that grow with every season.
+-- Their ids come from sequences instead of auto increment columns and no other table refers to
+-- board_result, so the match tables can later be partitioned in a migration of their own.
+
+create sequence match_day_sequence start with 1 increment by 50;
+
+create table match_day (
+    id bigint not null,
+    division_id bigint not null,
+    match_day_number integer not null,
+    primary key (id),
+    constraint MATCH_DAY_DIVISION_NUMBER_UK unique (division_id, match_day_number),
+    constraint MATCHDAY_DIVISION_ID_FK foreign key (division_id) references division (id)
+);
+
+create sequence match_sequence start with 1 increment by 50;
+
+create table team_match (
+    id bigint not null,
+    match_day_id bigint not null,
+    home_team_id bigint not null,
+    away_team_id bigint not null,
+    primary key (id),
+    constraint MATCH_MATCHDAY_ID_FK foreign key (match_day_id) references match_day (id),
+    constraint MATCH_HOME_TEAM_ID_FK foreign key (home_team_id) references team (id),
+    constraint MATCH_AWAY_TEAM_ID_FK foreign key (away_team_id) references team (id)
+);
+
+create table player (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    fide_id varchar(255),
+    team_id bigint not null,
+    number integer not null,
+    primary key (id),
+    constraint PLAYER_TEAM_NUMBER_UK unique (team_id, number),
+    constraint PLAYER_TEAM_ID_FK foreign key (team_id) references team (id)
+);
+
+create sequence board_result_sequence start with 1 increment by 50;
+
+create table board_result (
+    id bigint not null,
+    match_id bigint not null,
+    board_number integer not null,
+    revision integer not null,
+    home_player_id bigint,
+    away_player_id bigint,
+    result varchar(255) not null,
+    primary key (id),
+    constraint BOARD_RESULT_MATCH_BOARD_REVISION_UK unique (match_id, board_number, revision),
+    constraint BOARD_RESULT_MATCH_ID_FK foreign key (match_id) references team_match (id),
+    constraint BOARD_RESULT_HOME_PLAYER_ID_FK foreign key (home_player_id) references player (id),
+    constraint BOARD_RESULT_AWAY_PLAYER_ID_FK foreign key (away_player_id) references player (id)
+);
@@ -1,11 +1,10 @@
 package de.berlinerschachverband.bmm;
 
-import com.google.common.collect.SortedSetMultimap;
-import com.google.common.collect.TreeMultimap;
 import de.berlinerschachverband.bmm.basedata.data.DivisionData;
 import de.berlinerschachverband.bmm.basedata.data.SeasonData;
 import de.berlinerschachverband.bmm.basedata.data.thymeleaf.CreateDivisionData;
 import de.berlinerschachverband.bmm.basedata.data.thymeleaf.CreateSeasonData;
+import de.berlinerschachverband.bmm.navigation.data.DivisionOverviewData;
 import de.berlinerschachverband.bmm.navigation.data.NavbarData;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +14,8 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -22,7 +23,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 
-@SpringBootTest()
+// MockMvc passes flash attributes in the container session, which Spring Session would replace
+@SpringBootTest(properties = "spring.session.store-type=none")
 @AutoConfigureMockMvc
 class BmmApplicationTests {
 
@@ -61,6 +63,9 @@ class BmmApplicationTests {
                 .andExpect(status().isOk())
                 .andExpect(view().name("home"))
                 .andExpect(model().attribute("navbarData", new NavbarData(List.of("season1", "season2"))));
+        this.mockMvc.perform(get("/season/season1"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("divisions", Map.of()));
 
         // Step 4: Create a division for season1.
         CreateDivisionData createDivisionData = new CreateDivisionData();
@@ -78,8 +83,8 @@ class BmmApplicationTests {
                 .andExpect(model().attribute("division", new DivisionData(1L, "division1", 1, new SeasonData(1L,"season1"))));
 
         // Step 5: Check season1 for division.
-        SortedSetMultimap<Integer, String> divisions = TreeMultimap.create();
-        divisions.put(1, "division1");
+        TreeMap<Integer, List<DivisionOverviewData>> divisions = new TreeMap<>(Map.of(
+                1, List.of(new DivisionOverviewData(1L, "division1", 1, 0, 0))));
 
         this.mockMvc.perform(get("/season/season1"))
                 .andExpect(status().isOk())
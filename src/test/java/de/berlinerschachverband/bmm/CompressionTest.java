@@ -0,0 +1,50 @@
+package de.berlinerschachverband.bmm;
+
+import de.berlinerschachverband.bmm.basedata.service.SeasonService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// compression is done by the Tomcat connector, MockMvc does not see it
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.compression.enabled=true",
+        "server.compression.mime-types=text/html,text/css,application/javascript,application/json",
+        "server.compression.min-response-size=1024"})
+class CompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Test
+    void testPageWithStrongETagIsCompressed() throws Exception {
+        seasonService.createSeason("compressedSeason");
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/season/compressedSeason"))
+                        .header("Accept-Encoding", "gzip")
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("ETag").orElseThrow().startsWith("\""));
+        assertEquals(Optional.of("gzip"), response.headers().firstValue("Content-Encoding"));
+        try(GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertTrue(new String(body.readAllBytes(), StandardCharsets.UTF_8).contains("compressedSeason"));
+        }
+    }
+}
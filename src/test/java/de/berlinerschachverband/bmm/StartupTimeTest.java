@@ -0,0 +1,82 @@
+package de.berlinerschachverband.bmm;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Records the time from starting a new JVM with the application to the first answered request for /home,
+ * with the default configuration and with the fast profile, i.e. the downtime of a restart.
+ * The in-memory test database still needs its schema from Flyway, and the prewarmer is off,
+ * so that the first request is the measured one. Excluded from the default build, run it with {@code mvn -Pstartup test}.
+ */
+@Tag("startup")
+class StartupTimeTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupTimeTest.class);
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"default", "fast"})
+    void testTimeToFirstRequest(String profile) throws Exception {
+        int port = findFreePort();
+        long start = System.nanoTime();
+        Process application = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                BmmApplication.class.getName(),
+                "--spring.profiles.active=" + profile,
+                "--server.port=" + port,
+                "--spring.flyway.enabled=true",
+                "--bmm.prewarm.enabled=false",
+                "--logging.level.root=warn")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            HttpResponse<String> response = awaitFirstResponse(port, start);
+            long timeToFirstRequest = (System.nanoTime() - start) / 1_000_000;
+            LOGGER.info("Time to first request for /home with profile {}: {} ms", profile, timeToFirstRequest);
+
+            assertEquals(200, response.statusCode());
+            assertTrue(response.body().contains("<html"));
+        } finally {
+            application.destroy();
+            application.waitFor();
+        }
+    }
+
+    private HttpResponse<String> awaitFirstResponse(int port, long start) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/home")).build();
+        while(System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+            try {
+                return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                // the port is not open yet
+                Thread.sleep(20);
+            }
+        }
+        return fail("application did not answer within " + STARTUP_TIMEOUT);
+    }
+
+    private int findFreePort() throws IOException {
+        try(ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
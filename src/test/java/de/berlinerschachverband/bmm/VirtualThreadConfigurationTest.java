@@ -0,0 +1,96 @@
+package de.berlinerschachverband.bmm;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadConfigurationTest {
+
+    private static final String TEST_THREAD_NAME = "virtual-thread-substitute";
+
+    private final VirtualThreadConfiguration virtualThreadConfiguration = new VirtualThreadConfiguration();
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withPropertyValues("bmm.threads.virtual=true")
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class,
+                    TaskSchedulingAutoConfiguration.class))
+            .withUserConfiguration(AsyncConfiguration.class);
+
+    @Test
+    void testVirtualThreadExecutor() throws Exception {
+        if(Runtime.version().feature() < 21) {
+            assertThrows(IllegalStateException.class, virtualThreadConfiguration::virtualThreadExecutor);
+            return;
+        }
+        ExecutorService executorService = virtualThreadConfiguration.virtualThreadExecutor();
+        try {
+            Thread thread = executorService.submit(Thread::currentThread).get();
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void testAsyncRunsOnVirtualThreads() {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads require JDK 21");
+        contextRunner.withUserConfiguration(VirtualThreadConfiguration.class).run(context -> {
+            Thread thread = context.getBean(AsyncService.class).currentThread().get();
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        });
+    }
+
+    /**
+     * Runs on every JDK: the virtual thread executor is replaced by one with recognizable thread names,
+     * @Async has to pick it although the task scheduler is a TaskExecutor as well.
+     */
+    @Test
+    void testAsyncUsesVirtualThreadExecutorBesidesTaskScheduler() {
+        contextRunner.withUserConfiguration(SubstitutedVirtualThreadConfiguration.class).run(context -> {
+            assertEquals(TEST_THREAD_NAME, context.getBean(AsyncService.class).currentThread().get().getName());
+        });
+    }
+
+    @Configuration
+    @EnableAsync
+    @EnableScheduling
+    static class AsyncConfiguration {
+
+        @Bean
+        AsyncService asyncService() {
+            return new AsyncService();
+        }
+    }
+
+    @Configuration
+    static class SubstitutedVirtualThreadConfiguration extends VirtualThreadConfiguration {
+
+        @Override
+        @Bean(destroyMethod = "shutdown")
+        public ExecutorService virtualThreadExecutor() {
+            return Executors.newCachedThreadPool(runnable -> new Thread(runnable, TEST_THREAD_NAME));
+        }
+    }
+
+    static class AsyncService {
+
+        @Async
+        public CompletableFuture<Thread> currentThread() {
+            return CompletableFuture.completedFuture(Thread.currentThread());
+        }
+    }
+}
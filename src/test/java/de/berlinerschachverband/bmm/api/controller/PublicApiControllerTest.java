@@ -0,0 +1,172 @@
+package de.berlinerschachverband.bmm.api.controller;
+
+import de.berlinerschachverband.bmm.basedata.data.*;
+import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.basedata.service.SeasonService;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.exceptions.DivisionNotFoundException;
+import de.berlinerschachverband.bmm.navigation.data.ContentVersionData;
+import de.berlinerschachverband.bmm.navigation.service.ContentVersionService;
+import de.berlinerschachverband.bmm.navigation.service.NavbarService;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayData;
+import de.berlinerschachverband.bmm.resultdata.data.thymeleaf.RegularDivisionTableData;
+import de.berlinerschachverband.bmm.resultdata.service.MatchDayService;
+import de.berlinerschachverband.bmm.resultdata.service.TableService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PublicApiController.class)
+@AutoConfigureTestDatabase
+class PublicApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SeasonService seasonService;
+
+    @MockBean
+    private DivisionService divisionService;
+
+    @MockBean
+    private TeamService teamService;
+
+    @MockBean
+    private ClubService clubService;
+
+    @MockBean
+    private MatchDayService matchDayService;
+
+    @MockBean
+    private TableService tableService;
+
+    @MockBean
+    private ContentVersionService contentVersionService;
+
+    @MockBean
+    private NavbarService navbarService;
+
+    private final SeasonData seasonData = new SeasonData(1L, "season1");
+    private final DivisionData divisionData = new DivisionData(2L, "division1", 1, seasonData);
+
+    @BeforeEach
+    private void setUp() {
+        when(contentVersionService.getGlobalVersion()).thenReturn(new ContentVersionData("\"17a-0\"", 1_600_000_000_000L));
+        when(contentVersionService.getSeasonVersion("season1")).thenReturn(new ContentVersionData("\"17a-0-1\"", 1_600_000_000_000L));
+        when(contentVersionService.getDivisionVersion("season1", "division1"))
+                .thenReturn(new ContentVersionData("\"17a-0-1-2\"", 1_600_000_000_000L));
+        Division division = new Division();
+        when(divisionService.getDivisionByNameAndSeasonName("division1", "season1")).thenReturn(division);
+        when(divisionService.toDivisionData(division)).thenReturn(divisionData);
+    }
+
+    @Test
+    void testGetSeasons() throws Exception {
+        when(seasonService.getSeasonsPage(Optional.of("season0"), 1))
+                .thenReturn(new SeasonPageData(List.of(seasonData), Optional.of("season1")));
+
+        this.mockMvc.perform(get("/api/seasons").param("after", "season0").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"17a-0\""))
+                .andExpect(jsonPath("$.seasons[0].id").value(1))
+                .andExpect(jsonPath("$.seasons[0].name").value("season1"))
+                .andExpect(jsonPath("$.nextAfter").value("season1"));
+    }
+
+    @Test
+    void testGetSeasonsNotModified() throws Exception {
+        this.mockMvc.perform(get("/api/seasons").header("If-None-Match", "\"17a-0\""))
+                .andExpect(status().isNotModified());
+        verifyNoInteractions(seasonService);
+    }
+
+    @Test
+    void testGetDivisionsByLevel() throws Exception {
+        Season season = new Season();
+        when(seasonService.getSeason("season1")).thenReturn(season);
+        when(seasonService.toSeasonData(season)).thenReturn(seasonData);
+        when(divisionService.getDivisionsOfSeason(seasonData)).thenReturn(Set.of(
+                new DivisionData(4L, "division2b", 2, seasonData),
+                divisionData,
+                new DivisionData(3L, "division2a", 2, seasonData)));
+
+        this.mockMvc.perform(get("/api/seasons/season1/divisions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.1[0].name").value("division1"))
+                .andExpect(jsonPath("$.2[0].name").value("division2a"))
+                .andExpect(jsonPath("$.2[1].name").value("division2b"))
+                .andExpect(jsonPath("$.2[1].season.name").value("season1"));
+    }
+
+    @Test
+    void testGetTeamsOfDivision() throws Exception {
+        when(teamService.getTeamsOfDivision(divisionData)).thenReturn(Set.of(
+                new TeamData(2L, new ClubData(2L, "club2", true), Optional.of(divisionData), 1),
+                new TeamData(1L, new ClubData(1L, "club1", true), Optional.of(divisionData), 2)));
+
+        this.mockMvc.perform(get("/api/seasons/season1/divisions/division1/teams"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"17a-0-1-2\""))
+                .andExpect(jsonPath("$[0].clubData.name").value("club1"))
+                .andExpect(jsonPath("$[0].number").value(2))
+                .andExpect(jsonPath("$[0].division.name").value("division1"))
+                .andExpect(jsonPath("$[1].clubData.name").value("club2"));
+    }
+
+    @Test
+    void testGetMatchDaysOfDivision() throws Exception {
+        when(matchDayService.getMatchDaysOfDivision(divisionData)).thenReturn(List.of(
+                new MatchDayData(5L, 1, divisionData)));
+
+        this.mockMvc.perform(get("/api/seasons/season1/divisions/division1/matchDays"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].matchDayNumber").value(1));
+    }
+
+    @Test
+    void testGetStandingsOfDivision() throws Exception {
+        when(tableService.getRegularTable(divisionData)).thenReturn(List.of(
+                new RegularDivisionTableData("1", "club1 1", "1", "2", "4,5")));
+
+        this.mockMvc.perform(get("/api/seasons/season1/divisions/division1/standings"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].teamName").value("club1 1"))
+                .andExpect(jsonPath("$[0].boardPoints").value("4,5"));
+    }
+
+    @Test
+    void testGetStandingsOfUnknownDivision() throws Exception {
+        when(contentVersionService.getDivisionVersion("season1", "division9"))
+                .thenReturn(new ContentVersionData("\"17a-0-1-0\"", 1_600_000_000_000L));
+        when(divisionService.getDivisionByNameAndSeasonName("division9", "season1"))
+                .thenThrow(new DivisionNotFoundException("season: season1, division: division9"));
+
+        this.mockMvc.perform(get("/api/seasons/season1/divisions/division9/standings"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetClubsLimitsPageSize() throws Exception {
+        when(clubService.getClubsPage(Optional.empty(), PublicApiController.MAXIMUM_PAGE_SIZE))
+                .thenReturn(new ClubPageData(List.of(new ClubData(1L, "club1", true)), Optional.empty()));
+
+        this.mockMvc.perform(get("/api/clubs").param("limit", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clubs[0].name").value("club1"))
+                .andExpect(jsonPath("$.nextAfter").isEmpty());
+    }
+}
@@ -1,6 +1,7 @@
 package de.berlinerschachverband.bmm.basedata.controller;
 
 import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.data.ClubPageData;
 import de.berlinerschachverband.bmm.basedata.data.thymeleaf.CreateClubData;
 import de.berlinerschachverband.bmm.basedata.service.ClubService;
 import de.berlinerschachverband.bmm.navigation.data.NavbarData;
@@ -15,6 +16,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -43,17 +45,30 @@ class ClubControllerTest {
     @Test
     @WithMockUser
     void testGetClubs() throws Exception {
-        when(clubService.getAllClubs())
-                .thenReturn(List.of(
+        when(clubService.getClubsPage(Optional.empty(), 50))
+                .thenReturn(new ClubPageData(List.of(
                         new ClubData(1L, "club1", true),
-                        new ClubData(2L, "club2", false)));
+                        new ClubData(2L, "club2", false)), Optional.of("club2")));
         this.mockMvc.perform(get("/clubs"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("clubs"))
                 .andExpect(model().attribute("navbarData", new NavbarData(List.of("testSeason", "testSeason2"))))
                 .andExpect(model().attribute("clubs", List.of(
                         new ClubData(1L, "club1", true),
-                        new ClubData(2L, "club2", false))));
+                        new ClubData(2L, "club2", false))))
+                .andExpect(model().attribute("nextAfter", "club2"));
+    }
+
+    @Test
+    @WithMockUser
+    void testGetClubsAfter() throws Exception {
+        when(clubService.getClubsPage(Optional.of("club2"), 50))
+                .thenReturn(new ClubPageData(List.of(new ClubData(3L, "club3", true)), Optional.empty()));
+        this.mockMvc.perform(get("/clubs").param("after", "club2"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("clubs"))
+                .andExpect(model().attribute("clubs", List.of(new ClubData(3L, "club3", true))))
+                .andExpect(model().attributeDoesNotExist("nextAfter"));
     }
 
     @Test
@@ -1,15 +1,16 @@
 package de.berlinerschachverband.bmm.basedata.controller;
 
-import com.google.common.collect.SortedSetMultimap;
-import com.google.common.collect.TreeMultimap;
-import de.berlinerschachverband.bmm.basedata.data.Season;
 import de.berlinerschachverband.bmm.basedata.data.SeasonData;
 import de.berlinerschachverband.bmm.basedata.data.thymeleaf.CreateSeasonData;
-import de.berlinerschachverband.bmm.basedata.service.DivisionService;
 import de.berlinerschachverband.bmm.basedata.service.SeasonService;
 import de.berlinerschachverband.bmm.exceptions.SeasonAlreadyExistsException;
+import de.berlinerschachverband.bmm.navigation.data.ContentVersionData;
+import de.berlinerschachverband.bmm.navigation.data.DivisionOverviewData;
 import de.berlinerschachverband.bmm.navigation.data.NavbarData;
+import de.berlinerschachverband.bmm.navigation.data.SeasonOverviewData;
+import de.berlinerschachverband.bmm.navigation.service.ContentVersionService;
 import de.berlinerschachverband.bmm.navigation.service.NavbarService;
+import de.berlinerschachverband.bmm.navigation.service.SeasonOverviewService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,10 +21,13 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.mockito.Mockito.when;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,32 +45,45 @@ class SeasonControllerTest {
     private NavbarService navbarService;
 
     @MockBean
-    private DivisionService divisionService;
+    private SeasonOverviewService seasonOverviewService;
+
+    @MockBean
+    private ContentVersionService contentVersionService;
 
     @BeforeEach
     private void setUp() {
         when(navbarService.getNavbarData()).thenReturn(new NavbarData(List.of("testSeason", "testSeason2")));
+        when(contentVersionService.getSeasonVersion("testSeason"))
+                .thenReturn(new ContentVersionData("\"17a-0-1\"", 1_600_000_000_000L));
     }
 
     @Test
     void getSeasonShouldReturnSeason() throws Exception {
-        SortedSetMultimap<Integer, String> divisions = TreeMultimap.create();
-        divisions.put(1, "division1");
-        divisions.put(2, "division2a");
-        divisions.put(2, "division2b");
-        Season season = new Season();
-        season.setId(1L);
-        season.setName("testSeason");
-        when(seasonService.getSeason("testSeason")).thenReturn(season);
-        when(seasonService.toSeasonData(season)).thenReturn(new SeasonData(season.getId(), season.getName()));
-        when(divisionService.getDivisionsOfSeasonByLevel("testSeason")).thenReturn(divisions);
+        SortedMap<Integer, List<DivisionOverviewData>> divisions = new TreeMap<>();
+        divisions.put(1, List.of(new DivisionOverviewData(1L, "division1", 1, 10, 9)));
+        divisions.put(2, List.of(new DivisionOverviewData(2L, "division2a", 2, 8, 7),
+                new DivisionOverviewData(3L, "division2b", 2, 0, 0)));
+        when(seasonOverviewService.getSeasonOverview("testSeason"))
+                .thenReturn(new SeasonOverviewData(new SeasonData(1L, "testSeason"), divisions));
 
         this.mockMvc.perform(get("/season/testSeason"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("season"))
                 .andExpect(model().attribute("navbarData", new NavbarData(List.of("testSeason", "testSeason2"))))
                 .andExpect(model().attribute("season", new SeasonData(1L, "testSeason")))
-                .andExpect(model().attribute("divisions", divisions));
+                .andExpect(model().attribute("divisions", divisions))
+                .andExpect(content().string(containsString("10 Mannschaften, 9 Spieltage")))
+                .andExpect(header().string("ETag", "\"17a-0-1\""))
+                .andExpect(header().string("Cache-Control", "no-cache, public"))
+                .andExpect(header().exists("Last-Modified"));
+    }
+
+    @Test
+    void getSeasonShouldReturnNotModified() throws Exception {
+        this.mockMvc.perform(get("/season/testSeason").header("If-None-Match", "\"17a-0-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"17a-0-1\""));
+        verifyNoInteractions(seasonService, seasonOverviewService);
     }
 
     @Test
@@ -0,0 +1,62 @@
+package de.berlinerschachverband.bmm.basedata.data;
+
+import de.berlinerschachverband.bmm.exceptions.ConstraintViolations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Makes sure that clubs are ordered and paged by the database.
+ */
+@DataJpaTest
+class ClubRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @BeforeEach
+    private void setUp() {
+        for(String name : List.of("club3", "club1", "club4", "club2")) {
+            Club club = new Club();
+            club.setName(name);
+            club.setActive(!name.equals("club2"));
+            testEntityManager.persist(club);
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void testFindClubsPageByPage() {
+        assertEquals(List.of("club1", "club2"), clubRepository.findAllByOrderByName(PageRequest.of(0, 2))
+                .stream().map(Club::getName).toList());
+        assertEquals(List.of("club3", "club4"), clubRepository.findByNameGreaterThanOrderByName("club2", PageRequest.of(0, 2))
+                .stream().map(Club::getName).toList());
+    }
+
+    @Test
+    void testSameNameIsRejected() {
+        Club club = new Club();
+        club.setName("club1");
+        club.setActive(true);
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> clubRepository.saveAndFlush(club));
+        assertTrue(ConstraintViolations.isViolationOf(exception, Club.NAME_UK));
+    }
+
+    @Test
+    void testFindNamesOfActiveClubs() {
+        assertEquals(List.of("club1", "club3", "club4"), clubRepository.findNamesOfActiveClubs());
+    }
+}
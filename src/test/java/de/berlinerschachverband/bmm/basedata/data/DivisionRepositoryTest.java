@@ -0,0 +1,68 @@
+package de.berlinerschachverband.bmm.basedata.data;
+
+import de.berlinerschachverband.bmm.exceptions.ConstraintViolations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Makes sure that the database rejects a second division of the same name within a season,
+ * by a violation of the unique constraint that DivisionService reports as duplicate.
+ */
+@DataJpaTest
+class DivisionRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private DivisionRepository divisionRepository;
+
+    private Season season1, season2;
+
+    @BeforeEach
+    private void setUp() {
+        season1 = new Season();
+        season1.setName("season1");
+        testEntityManager.persist(season1);
+        season2 = new Season();
+        season2.setName("season2");
+        testEntityManager.persist(season2);
+        divisionRepository.saveAndFlush(newDivision("division1", season1));
+    }
+
+    @Test
+    void testSameNameInOtherSeason() {
+        divisionRepository.saveAndFlush(newDivision("division1", season2));
+        assertTrue(divisionRepository.findByNameAndSeason_Name("division1", "season2").isPresent());
+    }
+
+    @Test
+    void testSameNameInSameSeasonIsRejected() {
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> divisionRepository.saveAndFlush(newDivision("division1", season1)));
+        assertTrue(ConstraintViolations.isViolationOf(exception, Division.SEASON_NAME_UK));
+    }
+
+    @Test
+    void testDivisionWithoutLevelIsNoDuplicate() {
+        Division division = newDivision("division2", season1);
+        division.setLevel(null);
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> divisionRepository.saveAndFlush(division));
+        assertFalse(ConstraintViolations.isViolationOf(exception, Division.SEASON_NAME_UK));
+    }
+
+    private Division newDivision(String name, Season season) {
+        Division division = new Division();
+        division.setName(name);
+        division.setLevel(1);
+        division.setSeason(season);
+        return division;
+    }
+}
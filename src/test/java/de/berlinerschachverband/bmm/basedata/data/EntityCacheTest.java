@@ -0,0 +1,74 @@
+package de.berlinerschachverband.bmm.basedata.data;
+
+import de.berlinerschachverband.bmm.basedata.EntityCacheConfiguration;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every repository call runs in its own transaction here, like in the services,
+ * so that cached entities and queries are shared between the calls.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(EntityCacheConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    private void setUp() {
+        Season season = new Season();
+        season.setName("season1");
+        seasonRepository.saveAndFlush(season);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    private void tearDown() {
+        seasonRepository.deleteAll();
+    }
+
+    @Test
+    void testFindByNameIsServedFromCache() {
+        Long id = seasonRepository.findByName("season1").orElseThrow().getId();
+        assertEquals("season1", seasonRepository.findByName("season1").orElseThrow().getName());
+        assertEquals("season1", seasonRepository.findById(id).orElseThrow().getName());
+
+        // only the first query reached the database
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void testSaveAndFlushInvalidatesCache() {
+        Season season = seasonRepository.findByName("season1").orElseThrow();
+        season.setName("season2");
+        seasonRepository.saveAndFlush(season);
+
+        assertEquals(Optional.empty(), seasonRepository.findByName("season1"));
+        assertEquals(season.getId(), seasonRepository.findByName("season2").orElseThrow().getId());
+        assertEquals("season2", seasonRepository.findById(season.getId()).orElseThrow().getName());
+    }
+}
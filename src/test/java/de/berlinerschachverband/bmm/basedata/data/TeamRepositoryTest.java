@@ -0,0 +1,89 @@
+package de.berlinerschachverband.bmm.basedata.data;
+
+import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.basedata.service.SeasonService;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Makes sure that loading teams does not issue one query per club, division and season.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TeamService.class, DivisionService.class, ClubService.class, SeasonService.class})
+class TeamRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    private Statistics statistics;
+    private Division division;
+
+    @BeforeEach
+    private void setUp() {
+        Season season = new Season();
+        season.setName("season1");
+        testEntityManager.persist(season);
+        division = new Division();
+        division.setName("division1");
+        division.setLevel(1);
+        division.setSeason(season);
+        testEntityManager.persist(division);
+        for(int clubNumber = 1; clubNumber <= 4; clubNumber++) {
+            Club club = new Club();
+            club.setName("club" + clubNumber);
+            club.setActive(true);
+            testEntityManager.persist(club);
+            for(int teamNumber = 1; teamNumber <= 2; teamNumber++) {
+                Team team = new Team();
+                team.setClub(club);
+                team.setNumber(teamNumber);
+                team.setDivision(teamNumber == 1 ? division : null);
+                testEntityManager.persist(team);
+            }
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testGetTeamsOfDivisionUsesSingleStatement() {
+        DivisionData divisionData = new DivisionData(division.getId(), "division1", 1,
+                new SeasonData(division.getSeason().getId(), "season1"));
+        assertEquals(4, teamService.getTeamsOfDivision(divisionData).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetTeamsOfClubUsesSingleStatement() {
+        assertEquals(1, teamService.getTeamsOfClub("club1").size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testCountTeamsByDivisionOfSeason() {
+        assertEquals(List.of(new DivisionTeamCountData(division.getId(), 4L)),
+                teamRepository.countTeamsByDivisionOfSeason(division.getSeason().getId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -2,6 +2,7 @@ package de.berlinerschachverband.bmm.basedata.service;
 
 import de.berlinerschachverband.bmm.basedata.data.Club;
 import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.data.ClubPageData;
 import de.berlinerschachverband.bmm.basedata.data.ClubRepository;
 import de.berlinerschachverband.bmm.exceptions.BmmException;
 import de.berlinerschachverband.bmm.exceptions.ClubAlreadyExistsException;
@@ -9,6 +10,8 @@ import de.berlinerschachverband.bmm.exceptions.ClubNotFoundException;
 import de.berlinerschachverband.bmm.exceptions.NameBlankException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 import javax.swing.text.html.Option;
 import java.util.List;
@@ -39,7 +42,7 @@ public class ClubServiceTest {
 
     @Test
     void testGetAllClubs() {
-        when(clubRepository.findAll()).thenReturn(List.of(club2, club1));
+        when(clubRepository.findAllByOrderByName()).thenReturn(List.of(club1, club2));
         assertEquals(List.of(
                 new ClubData(1L, "club1", true),
                 new ClubData(2L, "club2", false)
@@ -49,18 +52,32 @@ public class ClubServiceTest {
 
     @Test
     void testGetAllActiveClubs() {
-        when(clubRepository.findByActiveTrue()).thenReturn(List.of(club1));
+        when(clubRepository.findByActiveTrueOrderByName()).thenReturn(List.of(club1));
         assertEquals(List.of(new ClubData(1L, "club1", true)),
                 clubService.getAllActiveClubs());
     }
 
     @Test
     void testGetAllActiveClubsNames() {
-        when(clubRepository.findByActiveTrue()).thenReturn(List.of(club1));
+        when(clubRepository.findNamesOfActiveClubs()).thenReturn(List.of("club1"));
         assertEquals(List.of("club1"),
                 clubService.getAllActiveClubsNames());
     }
 
+    @Test
+    void testGetClubsPage() {
+        when(clubRepository.findAllByOrderByName(PageRequest.of(0, 2))).thenReturn(List.of(club1, club2));
+        assertEquals(new ClubPageData(List.of(new ClubData(1L, "club1", true)), Optional.of("club1")),
+                clubService.getClubsPage(Optional.empty(), 1));
+    }
+
+    @Test
+    void testGetLastClubsPage() {
+        when(clubRepository.findByNameGreaterThanOrderByName("club1", PageRequest.of(0, 2))).thenReturn(List.of(club2));
+        assertEquals(new ClubPageData(List.of(new ClubData(2L, "club2", false)), Optional.empty()),
+                clubService.getClubsPage(Optional.of("club1"), 1));
+    }
+
     @Test
     void testGetClub() {
         when(clubRepository.findByName("club1")).thenReturn(Optional.of(club1));
@@ -75,16 +92,23 @@ public class ClubServiceTest {
     void testCreateClub() {
         assertThrows(NameBlankException.class, () -> clubService.createClub(""));
 
-        when(clubRepository.findByName("club1")).thenReturn(Optional.of(club1));
-        when(clubRepository.findByName("club2"))
-                .thenReturn(Optional.empty())
-                .thenReturn(Optional.of(club2));
+        doThrow(new DataIntegrityViolationException(Club.NAME_UK))
+                .when(clubRepository).saveAndFlush(argThat(club -> club.getName().equals("club1")));
+        doReturn(club2).when(clubRepository).saveAndFlush(argThat(club -> club.getName().equals("club2")));
 
         BmmException exception = assertThrows(ClubAlreadyExistsException.class, () -> clubService.createClub("club1"));
         assertEquals("club1", exception.getMessage());
         assertEquals(new ClubData(2L, "club2", false), clubService.createClub("club2"));
     }
 
+    @Test
+    void testCreateClubWithOtherIntegrityViolation() {
+        doThrow(new DataIntegrityViolationException("Value too long for column NAME"))
+                .when(clubRepository).saveAndFlush(any());
+
+        assertThrows(DataIntegrityViolationException.class, () -> clubService.createClub("club1"));
+    }
+
     @Test
     void testActivateClub() {
         when(clubRepository.findByName("club3")).thenReturn(Optional.of(club3));
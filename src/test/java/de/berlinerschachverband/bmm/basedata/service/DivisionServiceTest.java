@@ -4,24 +4,27 @@ import com.google.common.collect.SortedSetMultimap;
 import com.google.common.collect.TreeMultimap;
 import de.berlinerschachverband.bmm.basedata.data.*;
 import de.berlinerschachverband.bmm.basedata.data.thymeleaf.CreateDivisionData;
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
 import de.berlinerschachverband.bmm.exceptions.BmmException;
 import de.berlinerschachverband.bmm.exceptions.DivisionAlreadyExistsException;
 import de.berlinerschachverband.bmm.exceptions.DivisionNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class DivisionServiceTest {
 
     private final DivisionRepository divisionRepository = mock(DivisionRepository.class);
     private final SeasonService seasonService = mock(SeasonService.class);
+    private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
     private DivisionService divisionService;
     private Division division1;
     private Division division2a;
@@ -30,7 +33,7 @@ class DivisionServiceTest {
 
     @BeforeEach
     private void setUp() {
-        divisionService = new DivisionService(divisionRepository, seasonService);
+        divisionService = new DivisionService(divisionRepository, seasonService, applicationEventPublisher);
         season = new Season();
         season.setId(1L);
         season.setName("season");
@@ -101,10 +104,10 @@ class DivisionServiceTest {
         createDivisionData2.setSeasonName("season");
         createDivisionData2.setLevel(2);
 
-        when(divisionRepository.findByNameAndSeason_Name("division2b", "season"))
-                .thenReturn(Optional.of(division2b));
-        when(divisionRepository.findByNameAndSeason_Name("tivision2a", "season"))
-                .thenReturn(Optional.empty(), Optional.of(division2a));
+        doThrow(new DataIntegrityViolationException(Division.SEASON_NAME_UK))
+                .when(divisionRepository).saveAndFlush(argThat(division -> division.getName().equals("division2b")));
+        doReturn(division2a)
+                .when(divisionRepository).saveAndFlush(argThat(division -> division.getName().equals("tivision2a")));
         when(seasonService.getSeason("season")).thenReturn(season);
         when(seasonService.toSeasonData(season)).thenReturn(new SeasonData(season.getId(), season.getName()));
 
@@ -117,6 +120,20 @@ class DivisionServiceTest {
                         division2a.getLevel(),
                         new SeasonData(division2a.getSeason().getId(), division2a.getSeason().getName())),
                 divisionService.createDivision(createDivisionData2));
+        verify(applicationEventPublisher, times(1)).publishEvent(new ContentChangedEvent("season", Optional.empty()));
+    }
+
+    @Test
+    void testCreateDivisionWithoutLevel() {
+        CreateDivisionData createDivisionData = new CreateDivisionData();
+        createDivisionData.setName("division3");
+        createDivisionData.setSeasonName("season");
+        doThrow(new DataIntegrityViolationException("NULL not allowed for column LEVEL"))
+                .when(divisionRepository).saveAndFlush(any());
+        when(seasonService.getSeason("season")).thenReturn(season);
+
+        assertThrows(DataIntegrityViolationException.class, () -> divisionService.createDivision(createDivisionData));
+        verifyNoInteractions(applicationEventPublisher);
     }
 
     @Test
@@ -2,31 +2,38 @@ package de.berlinerschachverband.bmm.basedata.service;
 
 import de.berlinerschachverband.bmm.basedata.data.Season;
 import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonPageData;
 import de.berlinerschachverband.bmm.basedata.data.SeasonRepository;
+import de.berlinerschachverband.bmm.events.SeasonCreatedEvent;
 import de.berlinerschachverband.bmm.exceptions.BmmException;
 import de.berlinerschachverband.bmm.exceptions.NameBlankException;
 import de.berlinerschachverband.bmm.exceptions.SeasonAlreadyExistsException;
 import de.berlinerschachverband.bmm.exceptions.SeasonNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
 
 class SeasonServiceTest {
 
     private final SeasonRepository seasonRepository = mock(SeasonRepository.class);
+    private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
     private SeasonService seasonService;
     private Season season1;
     private Season season2;
 
     @BeforeEach
     private void setUp() {
-        seasonService = new SeasonService(seasonRepository);
+        seasonService = new SeasonService(seasonRepository, applicationEventPublisher);
         season1 = new Season();
         season1.setId(1L);
         season1.setName("zeason1"); // test alphabetical sorting as well
@@ -46,6 +53,17 @@ class SeasonServiceTest {
         assertEquals(actualGetSeasonNames, List.of("season2", "zeason1"));
     }
 
+    @Test
+    void testGetSeasonsPage() {
+        when(seasonRepository.findAllByOrderByName(PageRequest.of(0, 2))).thenReturn(List.of(season2, season1));
+        when(seasonRepository.findByNameGreaterThanOrderByName("season2", PageRequest.of(0, 2))).thenReturn(List.of(season1));
+
+        assertEquals(new SeasonPageData(List.of(new SeasonData(2L, "season2")), Optional.of("season2")),
+                seasonService.getSeasonsPage(Optional.empty(), 1));
+        assertEquals(new SeasonPageData(List.of(new SeasonData(1L, "zeason1")), Optional.empty()),
+                seasonService.getSeasonsPage(Optional.of("season2"), 1));
+    }
+
     @Test
     void testGetSeason() {
         when(seasonRepository.findByName("zeason1")).thenReturn(Optional.of(season1));
@@ -58,8 +76,9 @@ class SeasonServiceTest {
 
     @Test
     void testCreateSeason() {
-        when(seasonRepository.findByName("zeason1")).thenReturn(Optional.of(season1));
-        when(seasonRepository.findByName("season2")).thenReturn(Optional.empty(), Optional.of(season2));
+        doThrow(new DataIntegrityViolationException(Season.NAME_UK))
+                .when(seasonRepository).saveAndFlush(argThat(season -> season.getName().equals("zeason1")));
+        doReturn(season2).when(seasonRepository).saveAndFlush(argThat(season -> season.getName().equals("season2")));
 
         BmmException exception = assertThrows(SeasonAlreadyExistsException.class, () -> seasonService.createSeason("zeason1"));
         assertEquals(exception.getMessage(), "zeason1");
@@ -67,6 +86,18 @@ class SeasonServiceTest {
         assertEquals(seasonService.createSeason("season2"), new SeasonData(season2.getId(), season2.getName()));
 
         assertThrows(NameBlankException.class, () -> seasonService.createSeason(""));
+
+        verify(applicationEventPublisher, times(1)).publishEvent(any(Object.class));
+        verify(applicationEventPublisher).publishEvent(new SeasonCreatedEvent(new SeasonData(season2.getId(), season2.getName())));
+    }
+
+    @Test
+    void testCreateSeasonWithOtherIntegrityViolation() {
+        doThrow(new DataIntegrityViolationException("Value too long for column NAME"))
+                .when(seasonRepository).saveAndFlush(any());
+
+        assertThrows(DataIntegrityViolationException.class, () -> seasonService.createSeason("season1"));
+        verifyNoInteractions(applicationEventPublisher);
     }
 
 
@@ -7,8 +7,10 @@ import de.berlinerschachverband.bmm.exceptions.BmmException;
 import de.berlinerschachverband.bmm.exceptions.TeamAlreadyExistsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -100,10 +102,32 @@ class TeamServiceTest {
 
     @Test
     void testGetNumberOfTeamsOfDivision() {
-        when(teamRepository.findByDivision_Id(1L)).thenReturn(Set.of(team1,team2));
+        when(teamRepository.countByDivision_Id(1L)).thenReturn(2L);
         assertEquals(2, teamService.getNumberOfTeamsOfDivision(new DivisionData(1L, "division1", 1, season1)));
     }
 
+    @Test
+    void testGetNumberOfTeamsByDivisionOfSeason() {
+        when(teamRepository.countTeamsByDivisionOfSeason(1L)).thenReturn(List.of(
+                new DivisionTeamCountData(1L, 2L),
+                new DivisionTeamCountData(2L, 10L)));
+        assertEquals(Map.of(1L, 2, 2L, 10), teamService.getNumberOfTeamsByDivisionOfSeason(season1));
+    }
+
+    @Test
+    void testGetTeamsByDivisionOfSeason() {
+        DivisionData divisionData = new DivisionData(1L, "division1", 1, season1);
+        when(teamRepository.findByDivision_Season_Id(1L)).thenReturn(List.of(team2, team1));
+        when(clubService.toClubData(club1)).thenReturn(new ClubData(1L, "club1", true));
+        when(clubService.toClubData(club2)).thenReturn(new ClubData(2L, "club2", true));
+        when(divisionService.toDivisionData(division)).thenReturn(divisionData);
+
+        assertEquals(Map.of(1L, List.of(
+                        new TeamData(1L, new ClubData(1L, "club1", true), Optional.of(divisionData), 1),
+                        new TeamData(2L, new ClubData(2L, "club2", true), Optional.of(divisionData), 1))),
+                teamService.getTeamsByDivisionOfSeason(season1));
+    }
+
     @Test
     void testCreateTeam() {
         CreateTeamData createTeamData1 = new CreateTeamData();
@@ -136,18 +160,17 @@ class TeamServiceTest {
     void testCreateTeams() {
         CreateTeamsData createTeamsData = new CreateTeamsData();
         createTeamsData.setClubName("club1");
-        createTeamsData.setNumberOfTeams(2);
+        createTeamsData.setNumberOfTeams(3);
 
-        when(teamRepository.findByClub_NameAndNumberAndDivisionIsNull("club1", 1))
-                .thenReturn(Optional.of(team1));
-        when(teamRepository.findByClub_NameAndNumberAndDivisionIsNull("club1", 2))
-                .thenReturn(Optional.empty())
-                .thenReturn(Optional.of(team3));
+        when(teamRepository.findByClub_NameAndDivisionIsNull("club1")).thenReturn(Set.of(team3));
+        when(clubService.getClub("club1")).thenReturn(club1);
 
         teamService.createTeams(createTeamsData);
 
-        verify(teamRepository, times(1)).findByClub_NameAndNumberAndDivisionIsNull("club1", 1);
-        verify(teamRepository, times(2)).findByClub_NameAndNumberAndDivisionIsNull("club1", 2);
+        ArgumentCaptor<List<Team>> captor = ArgumentCaptor.forClass(List.class);
+        verify(teamRepository, times(1)).findByClub_NameAndDivisionIsNull("club1");
+        verify(teamRepository, times(1)).saveAll(captor.capture());
+        assertEquals(List.of(1, 3), captor.getValue().stream().map(Team::getNumber).toList());
+        assertTrue(captor.getValue().stream().allMatch(team -> team.getClub() == club1));
     }
-    
-}
\ No newline at end of file
+}
@@ -7,25 +7,31 @@ import de.berlinerschachverband.bmm.navigation.data.AdministrationButtonData;
 import de.berlinerschachverband.bmm.navigation.data.NavbarData;
 import de.berlinerschachverband.bmm.navigation.service.AdministrationService;
 import de.berlinerschachverband.bmm.navigation.service.NavbarService;
+import de.berlinerschachverband.bmm.security.ClubAdminAuthorization;
 import de.berlinerschachverband.bmm.security.Roles;
-import de.berlinerschachverband.bmm.security.service.ClubAdminService;
+import de.berlinerschachverband.bmm.security.data.BmmUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AdministrationController.class)
 @AutoConfigureTestDatabase
+@Import(ClubAdminAuthorization.class)
 class AdministrationControllerTest {
 
     @Autowired
@@ -40,9 +46,6 @@ class AdministrationControllerTest {
     @MockBean
     private AdministrationService administrationService;
 
-    @MockBean
-    private ClubAdminService clubAdminService;
-
     @BeforeEach
     private void setUp() {
         when(navbarService.getNavbarData()).thenReturn(new NavbarData(List.of("testSeason", "testSeason2")));
@@ -71,8 +74,9 @@ class AdministrationControllerTest {
     }
 
     @Test
-    @WithMockUser(username = "testuser", authorities = Roles.CLUB_ADMIN)
     void shouldReturnClubAdminPageWhenClubMatches() throws Exception {
+        BmmUser clubAdmin = new BmmUser("testuser", "password", true,
+                AuthorityUtils.createAuthorityList(Roles.CLUB_ADMIN), Set.of(1L), Set.of("club1"));
         Club club1 = new Club();
         club1.setId(1L);
         club1.setName("club1");
@@ -80,15 +84,13 @@ class AdministrationControllerTest {
         when(clubService.getClub("club1")).thenReturn(club1);
         when(clubService.toClubData(club1)).thenReturn(new ClubData(1L, "club1", true));
 
-        when(clubAdminService.findClubsByUsername("testuser")).thenReturn(List.of(new ClubData(1L, "club1", true)));
-
-        this.mockMvc.perform(get("/administration/club/club1"))
+        this.mockMvc.perform(get("/administration/club/club1").with(user(clubAdmin)))
                 .andExpect(status().isOk())
                 .andExpect(view().name("clubAdministration"))
                 .andExpect(model().attribute("navbarData", new NavbarData(List.of("testSeason", "testSeason2"))))
                 .andExpect(model().attribute("club", new ClubData(1L, "club1", true)));
 
-        this.mockMvc.perform(get("/administration/club/otherClub"))
+        this.mockMvc.perform(get("/administration/club/otherClub").with(user(clubAdmin)))
                 .andExpect(status().isForbidden());
     }
 
@@ -100,10 +102,21 @@ class AdministrationControllerTest {
     }
 
     @Test
-    @WithMockUser(username = "testuser", authorities = {Roles.USER, Roles.TEAM_ADMIN, Roles.ADMINISTRATOR})
     void shouldDenyAccessGetClubAdmin() throws Exception {
-        when(clubAdminService.findClubsByUsername("testuser")).thenReturn(List.of(new ClubData(1L,"myClub", true)));
-        this.mockMvc.perform(get("/administration/club/anyClub"))
+        // club admin of myClub, but the clubAdmin role is missing
+        BmmUser user = new BmmUser("testuser", "password", true,
+                AuthorityUtils.createAuthorityList(Roles.USER, Roles.TEAM_ADMIN, Roles.ADMINISTRATOR),
+                Set.of(1L), Set.of("myClub"));
+        this.mockMvc.perform(get("/administration/club/myClub").with(user(user)))
+                .andExpect(status().isForbidden());
+        this.mockMvc.perform(get("/administration/club/anyClub").with(user(user)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", authorities = Roles.CLUB_ADMIN)
+    void shouldDenyAccessGetClubAdminWithoutClubs() throws Exception {
+        this.mockMvc.perform(get("/administration/club/club1"))
                 .andExpect(status().isForbidden());
     }
 
@@ -0,0 +1,108 @@
+package de.berlinerschachverband.bmm.navigation.controller;
+
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
+import de.berlinerschachverband.bmm.navigation.data.ContentVersionData;
+import de.berlinerschachverband.bmm.navigation.service.ContentVersionService;
+import de.berlinerschachverband.bmm.navigation.service.PageCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PageCacheFilterTest {
+
+    private final ContentVersionService contentVersionService = mock(ContentVersionService.class);
+    private PageCacheService pageCacheService;
+    private PageCacheFilter pageCacheFilter;
+    private AtomicInteger renderings;
+    private FilterChain renderingChain;
+
+    @BeforeEach
+    private void setUp() {
+        pageCacheService = new PageCacheService(contentVersionService, 1024);
+        pageCacheFilter = new PageCacheFilter(pageCacheService);
+        renderings = new AtomicInteger();
+        renderingChain = (request, response) -> {
+            response.setContentType("text/html;charset=UTF-8");
+            response.getWriter().write("<html>" + renderings.incrementAndGet() + "</html>");
+        };
+        when(contentVersionService.getSeasonVersion("season1"))
+                .thenReturn(new ContentVersionData("\"17a-0-1\"", 1_600_000_000_000L));
+    }
+
+    @Test
+    void testPageIsRenderedOnce() throws Exception {
+        MockHttpServletResponse firstResponse = get("/season/season1");
+        MockHttpServletResponse secondResponse = get("/season/season1");
+
+        assertEquals(1, renderings.get());
+        assertEquals("<html>1</html>", firstResponse.getContentAsString());
+        assertEquals("<html>1</html>", secondResponse.getContentAsString());
+        assertEquals("text/html;charset=UTF-8", secondResponse.getContentType());
+        assertEquals("\"17a-0-1\"", secondResponse.getHeader("ETag"));
+    }
+
+    @Test
+    void testCachedPageIsNotModified() throws Exception {
+        get("/season/season1");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/season/season1");
+        request.addHeader("If-None-Match", "\"17a-0-1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        pageCacheFilter.doFilter(request, response, renderingChain);
+
+        assertEquals(304, response.getStatus());
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void testPageIsRenderedAgainForNewVersion() throws Exception {
+        get("/season/season1");
+        when(contentVersionService.getSeasonVersion("season1"))
+                .thenReturn(new ContentVersionData("\"17a-0-2\"", 1_600_000_001_000L));
+
+        assertEquals("<html>2</html>", get("/season/season1").getContentAsString());
+    }
+
+    @Test
+    void testOnContentChanged() throws Exception {
+        get("/season/season1");
+        pageCacheService.onContentChanged(new ContentChangedEvent("season1", Optional.empty()));
+
+        assertEquals("<html>2</html>", get("/season/season1").getContentAsString());
+    }
+
+    @Test
+    void testAdministrationPagesAreNotCached() throws Exception {
+        get("/administration/season/season1");
+        get("/administration/season/season1");
+
+        assertEquals(2, renderings.get());
+    }
+
+    @Test
+    void testFailedPagesAreNotCached() throws Exception {
+        renderingChain = (request, response) -> {
+            renderings.incrementAndGet();
+            ((HttpServletResponse) response).sendError(404);
+        };
+        get("/season/season1");
+        get("/season/season1");
+
+        assertEquals(2, renderings.get());
+    }
+
+    private MockHttpServletResponse get(String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        pageCacheFilter.doFilter(new MockHttpServletRequest("GET", path), response, renderingChain);
+        return response;
+    }
+}
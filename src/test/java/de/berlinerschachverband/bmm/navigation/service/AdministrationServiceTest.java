@@ -33,6 +33,7 @@ class AdministrationServiceTest {
                         new AdministrationButtonData("/clubs", "Alle Vereine anzeigen"),
                         new AdministrationButtonData("/clubs/create", "Neuen Verein erstellen"),
                         new AdministrationButtonData("/administration/createUser", "Neuen Benutzer erstellen"),
+                        new AdministrationButtonData("/administration/clubAdmins", "Vereinsadministratoren verwalten"),
                         new AdministrationButtonData("/administration/club/club","Verein club verwalten")),
                 administrationService.getAdministrationButtonData("testuser", List.of(
                         Roles.CLUB_ADMIN, Roles.TEAM_ADMIN, Roles.ADMINISTRATOR)));
@@ -44,7 +45,8 @@ class AdministrationServiceTest {
                         new AdministrationButtonData("/administration/createDivision", "Neue Staffel erstellen"),
                         new AdministrationButtonData("/clubs", "Alle Vereine anzeigen"),
                         new AdministrationButtonData("/clubs/create", "Neuen Verein erstellen"),
-                        new AdministrationButtonData("/administration/createUser", "Neuen Benutzer erstellen")),
+                        new AdministrationButtonData("/administration/createUser", "Neuen Benutzer erstellen"),
+                        new AdministrationButtonData("/administration/clubAdmins", "Vereinsadministratoren verwalten")),
                 administrationService.getAdministrationButtonData("testuser", List.of(Roles.ADMINISTRATOR)));
     }
 
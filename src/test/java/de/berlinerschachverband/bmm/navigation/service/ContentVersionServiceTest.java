@@ -0,0 +1,70 @@
+package de.berlinerschachverband.bmm.navigation.service;
+
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
+import de.berlinerschachverband.bmm.events.SeasonCreatedEvent;
+import de.berlinerschachverband.bmm.navigation.data.ContentVersionData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContentVersionServiceTest {
+
+    private final Clock clock = mock(Clock.class);
+    private ContentVersionService contentVersionService;
+
+    @BeforeEach
+    private void setUp() {
+        when(clock.millis()).thenReturn(1000L);
+        contentVersionService = new ContentVersionService(clock);
+    }
+
+    @Test
+    void testInitialVersions() {
+        assertEquals(new ContentVersionData("\"3e8-0-0\"", 1000L),
+                contentVersionService.getSeasonVersion("season1"));
+        assertEquals(new ContentVersionData("\"3e8-0-0-0\"", 1000L),
+                contentVersionService.getDivisionVersion("season1", "division1"));
+    }
+
+    @Test
+    void testOnContentChanged() {
+        when(clock.millis()).thenReturn(2000L);
+        contentVersionService.onContentChanged(new ContentChangedEvent("season1", Optional.of("division1")));
+        contentVersionService.onContentChanged(new ContentChangedEvent("season1", Optional.of("division1")));
+
+        assertEquals(new ContentVersionData("\"3e8-0-0\"", 1000L),
+                contentVersionService.getSeasonVersion("season1"));
+        assertEquals(new ContentVersionData("\"3e8-0-0-2\"", 2000L),
+                contentVersionService.getDivisionVersion("season1", "division1"));
+        assertEquals(new ContentVersionData("\"3e8-0-0-0\"", 1000L),
+                contentVersionService.getDivisionVersion("season1", "division2"));
+
+        when(clock.millis()).thenReturn(3000L);
+        contentVersionService.onContentChanged(new ContentChangedEvent("season1", Optional.empty()));
+
+        assertEquals(new ContentVersionData("\"3e8-0-1\"", 3000L),
+                contentVersionService.getSeasonVersion("season1"));
+        assertEquals(new ContentVersionData("\"3e8-0-1-2\"", 3000L),
+                contentVersionService.getDivisionVersion("season1", "division1"));
+        assertEquals(new ContentVersionData("\"3e8-0-0\"", 1000L),
+                contentVersionService.getSeasonVersion("season2"));
+    }
+
+    @Test
+    void testOnSeasonCreated() {
+        when(clock.millis()).thenReturn(2000L);
+        contentVersionService.onSeasonCreated(new SeasonCreatedEvent(new SeasonData(2L, "season2")));
+
+        assertEquals(new ContentVersionData("\"3e8-1-0\"", 2000L),
+                contentVersionService.getSeasonVersion("season1"));
+        assertEquals(new ContentVersionData("\"3e8-1\"", 2000L),
+                contentVersionService.getGlobalVersion());
+    }
+}
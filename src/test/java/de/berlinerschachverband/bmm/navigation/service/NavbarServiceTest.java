@@ -0,0 +1,42 @@
+package de.berlinerschachverband.bmm.navigation.service;
+
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.service.SeasonService;
+import de.berlinerschachverband.bmm.events.SeasonCreatedEvent;
+import de.berlinerschachverband.bmm.navigation.data.NavbarData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NavbarServiceTest {
+
+    private final SeasonService seasonService = mock(SeasonService.class);
+    private NavbarService navbarService;
+
+    @BeforeEach
+    private void setUp() {
+        navbarService = new NavbarService(seasonService);
+        when(seasonService.getSeasonNames())
+                .thenReturn(List.of("season1"))
+                .thenReturn(List.of("season1", "season2"));
+    }
+
+    @Test
+    void testGetNavbarDataIsCached() {
+        assertEquals(new NavbarData(List.of("season1")), navbarService.getNavbarData());
+        assertEquals(new NavbarData(List.of("season1")), navbarService.getNavbarData());
+        verify(seasonService, times(1)).getSeasonNames();
+    }
+
+    @Test
+    void testSeasonCreatedInvalidatesNavbarData() {
+        assertEquals(new NavbarData(List.of("season1")), navbarService.getNavbarData());
+        navbarService.onSeasonCreated(new SeasonCreatedEvent(new SeasonData(2L, "season2")));
+        assertEquals(new NavbarData(List.of("season1", "season2")), navbarService.getNavbarData());
+        verify(seasonService, times(2)).getSeasonNames();
+    }
+}
@@ -0,0 +1,90 @@
+package de.berlinerschachverband.bmm.navigation.service;
+
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.Season;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.basedata.service.SeasonService;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
+import de.berlinerschachverband.bmm.exceptions.SeasonNotFoundException;
+import de.berlinerschachverband.bmm.navigation.data.DivisionOverviewData;
+import de.berlinerschachverband.bmm.navigation.data.SeasonOverviewData;
+import de.berlinerschachverband.bmm.resultdata.service.MatchDayService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SeasonOverviewServiceTest {
+
+    private final SeasonService seasonService = mock(SeasonService.class);
+    private final DivisionService divisionService = mock(DivisionService.class);
+    private final TeamService teamService = mock(TeamService.class);
+    private final MatchDayService matchDayService = mock(MatchDayService.class);
+    private SeasonOverviewService seasonOverviewService;
+
+    @BeforeEach
+    private void setUp() {
+        seasonOverviewService = new SeasonOverviewService(seasonService, divisionService, teamService, matchDayService);
+        Season season = new Season();
+        season.setId(1L);
+        season.setName("season1");
+        SeasonData seasonData = new SeasonData(1L, "season1");
+        when(seasonService.getSeason("season1")).thenReturn(season);
+        when(seasonService.getSeason("unknown")).thenThrow(new SeasonNotFoundException("unknown"));
+        when(seasonService.toSeasonData(season)).thenReturn(seasonData);
+        when(divisionService.getDivisionsOfSeason(seasonData)).thenReturn(Set.of(
+                new DivisionData(1L, "division1", 1, seasonData),
+                new DivisionData(3L, "division2b", 2, seasonData),
+                new DivisionData(2L, "division2a", 2, seasonData)));
+        when(teamService.getNumberOfTeamsByDivisionOfSeason(seasonData)).thenReturn(Map.of(1L, 10, 2L, 8));
+        when(matchDayService.getNumberOfMatchDaysByDivisionOfSeason(seasonData)).thenReturn(Map.of(1L, 9));
+    }
+
+    @Test
+    void testGetSeasonOverview() {
+        TreeMap<Integer, List<DivisionOverviewData>> divisionsByLevel = new TreeMap<>(Map.of(
+                1, List.of(new DivisionOverviewData(1L, "division1", 1, 10, 9)),
+                2, List.of(new DivisionOverviewData(2L, "division2a", 2, 8, 0),
+                        new DivisionOverviewData(3L, "division2b", 2, 0, 0))));
+
+        assertEquals(new SeasonOverviewData(new SeasonData(1L, "season1"), divisionsByLevel),
+                seasonOverviewService.getSeasonOverview("season1"));
+    }
+
+    @Test
+    void testSeasonOverviewIsCached() {
+        SeasonOverviewData seasonOverview = seasonOverviewService.getSeasonOverview("season1");
+
+        assertSame(seasonOverview, seasonOverviewService.getSeasonOverview("season1"));
+        verify(seasonService, times(1)).getSeason("season1");
+        verify(divisionService, times(1)).getDivisionsOfSeason(any());
+    }
+
+    @Test
+    void testContentChangedOfSeasonInvalidatesOverview() {
+        seasonOverviewService.getSeasonOverview("season1");
+        seasonOverviewService.onContentChanged(new ContentChangedEvent("season1", Optional.of("division1")));
+        seasonOverviewService.getSeasonOverview("season1");
+        verify(divisionService, times(1)).getDivisionsOfSeason(any());
+
+        seasonOverviewService.onContentChanged(new ContentChangedEvent("season1", Optional.empty()));
+        seasonOverviewService.getSeasonOverview("season1");
+        verify(divisionService, times(2)).getDivisionsOfSeason(any());
+    }
+
+    @Test
+    void testUnknownSeason() {
+        assertThrows(SeasonNotFoundException.class, () -> seasonOverviewService.getSeasonOverview("unknown"));
+        assertThrows(SeasonNotFoundException.class, () -> seasonOverviewService.getSeasonOverview("unknown"));
+        verify(seasonService, times(2)).getSeason("unknown");
+    }
+}
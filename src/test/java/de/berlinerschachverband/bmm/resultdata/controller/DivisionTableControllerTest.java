@@ -0,0 +1,77 @@
+package de.berlinerschachverband.bmm.resultdata.controller;
+
+import de.berlinerschachverband.bmm.basedata.data.Division;
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.navigation.data.ContentVersionData;
+import de.berlinerschachverband.bmm.navigation.data.NavbarData;
+import de.berlinerschachverband.bmm.navigation.service.ContentVersionService;
+import de.berlinerschachverband.bmm.navigation.service.NavbarService;
+import de.berlinerschachverband.bmm.resultdata.data.thymeleaf.RegularDivisionTableData;
+import de.berlinerschachverband.bmm.resultdata.service.TableService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(DivisionTableController.class)
+@AutoConfigureTestDatabase
+class DivisionTableControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DivisionService divisionService;
+
+    @MockBean
+    private TableService tableService;
+
+    @MockBean
+    private ContentVersionService contentVersionService;
+
+    @MockBean
+    private NavbarService navbarService;
+
+    @BeforeEach
+    private void setUp() {
+        when(navbarService.getNavbarData()).thenReturn(new NavbarData(List.of("season1")));
+        when(contentVersionService.getDivisionVersion("season1", "division1"))
+                .thenReturn(new ContentVersionData("\"17a-0-1-3\"", 1_600_000_000_000L));
+    }
+
+    @Test
+    void getDivisionShouldReturnTable() throws Exception {
+        Division division = new Division();
+        DivisionData divisionData = new DivisionData(1L, "division1", 1, new SeasonData(1L, "season1"));
+        List<RegularDivisionTableData> table = List.of(new RegularDivisionTableData("1", "club1 1", "1", "2", "5"));
+        when(divisionService.getDivisionByNameAndSeasonName("division1", "season1")).thenReturn(division);
+        when(divisionService.toDivisionData(division)).thenReturn(divisionData);
+        when(tableService.getRegularTable(divisionData)).thenReturn(table);
+
+        this.mockMvc.perform(get("/division/season1/division1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("division"))
+                .andExpect(model().attribute("division", divisionData))
+                .andExpect(model().attribute("table", table))
+                .andExpect(header().string("ETag", "\"17a-0-1-3\""))
+                .andExpect(header().string("Cache-Control", "no-cache, public"));
+    }
+
+    @Test
+    void getDivisionShouldReturnNotModified() throws Exception {
+        this.mockMvc.perform(get("/division/season1/division1").header("If-None-Match", "\"17a-0-1-3\""))
+                .andExpect(status().isNotModified());
+        verifyNoInteractions(divisionService, tableService);
+    }
+}
@@ -0,0 +1,95 @@
+package de.berlinerschachverband.bmm.resultdata.controller;
+
+import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.data.Division;
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.navigation.data.NavbarData;
+import de.berlinerschachverband.bmm.navigation.service.NavbarService;
+import de.berlinerschachverband.bmm.resultdata.data.LineUpViolationData;
+import de.berlinerschachverband.bmm.resultdata.data.LineUpViolationType;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayLineUpValidationData;
+import de.berlinerschachverband.bmm.resultdata.service.LineUpValidationService;
+import de.berlinerschachverband.bmm.security.Roles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(LineUpValidationController.class)
+@AutoConfigureTestDatabase
+class LineUpValidationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DivisionService divisionService;
+
+    @MockBean
+    private TeamService teamService;
+
+    @MockBean
+    private LineUpValidationService lineUpValidationService;
+
+    @MockBean
+    private NavbarService navbarService;
+
+    private final DivisionData divisionData = new DivisionData(1L, "division1", 1, new SeasonData(1L, "season1"));
+
+    @BeforeEach
+    private void setUp() {
+        Division division = new Division();
+        when(navbarService.getNavbarData()).thenReturn(new NavbarData(List.of("season1")));
+        when(divisionService.getDivisionByNameAndSeasonName("division1", "season1")).thenReturn(division);
+        when(divisionService.toDivisionData(division)).thenReturn(divisionData);
+        when(teamService.getTeamsOfDivision(divisionData)).thenReturn(Set.of(
+                new TeamData(10L, new ClubData(1L, "club1", true), Optional.of(divisionData), 1),
+                new TeamData(20L, new ClubData(2L, "club2", true), Optional.of(divisionData), 1)));
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.ADMINISTRATOR)
+    void shouldReturnLineUpViolations() throws Exception {
+        List<MatchDayLineUpValidationData> matchDays = List.of(
+                new MatchDayLineUpValidationData(1, 16, List.of(), 1_000),
+                new MatchDayLineUpValidationData(2, 16, List.of(
+                        new LineUpViolationData(5L, 20L, 3, 102L, LineUpViolationType.NOT_ON_ROSTER)), 1_000));
+        when(lineUpValidationService.validateLineUps(divisionData)).thenReturn(matchDays);
+
+        this.mockMvc.perform(get("/administration/division/season1/division1/lineUps"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("lineUpValidation"))
+                .andExpect(model().attribute("division", divisionData))
+                .andExpect(model().attribute("teamNames", Map.of(10L, "club1 1", 20L, "club2 1")))
+                .andExpect(model().attribute("matchDays", matchDays))
+                .andExpect(content().string(containsString("club2 1")))
+                .andExpect(content().string(containsString(LineUpViolationType.NOT_ON_ROSTER.getDescription())));
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.CLUB_ADMIN)
+    void shouldDenyLineUpValidation() throws Exception {
+        this.mockMvc.perform(get("/administration/division/season1/division1/lineUps"))
+                .andExpect(status().isForbidden());
+        verify(lineUpValidationService, never()).validateLineUps(any());
+    }
+}
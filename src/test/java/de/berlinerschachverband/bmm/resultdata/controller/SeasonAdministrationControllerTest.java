@@ -0,0 +1,121 @@
+package de.berlinerschachverband.bmm.resultdata.controller;
+
+import de.berlinerschachverband.bmm.basedata.data.Season;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.service.SeasonService;
+import de.berlinerschachverband.bmm.exceptions.RosterImportFailedException;
+import de.berlinerschachverband.bmm.navigation.data.NavbarData;
+import de.berlinerschachverband.bmm.navigation.service.NavbarService;
+import de.berlinerschachverband.bmm.resultdata.data.RosterImportReportData;
+import de.berlinerschachverband.bmm.resultdata.data.SkippedRosterRowData;
+import de.berlinerschachverband.bmm.resultdata.service.MatchDayService;
+import de.berlinerschachverband.bmm.resultdata.service.RosterImportService;
+import de.berlinerschachverband.bmm.security.Roles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SeasonAdministrationController.class)
+@AutoConfigureTestDatabase
+class SeasonAdministrationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MatchDayService matchDayService;
+
+    @MockBean
+    private SeasonService seasonService;
+
+    @MockBean
+    private RosterImportService rosterImportService;
+
+    @MockBean
+    private NavbarService navbarService;
+
+    private final SeasonData seasonData = new SeasonData(1L, "season1");
+
+    private final MockMultipartFile rosterFile = new MockMultipartFile("file", "rosters.csv", "text/csv",
+            "Verein;Mannschaft;Brett;Name\nclub1;1;1;Spieler Eins\n".getBytes());
+
+    @BeforeEach
+    private void setUp() {
+        Season season = new Season();
+        when(navbarService.getNavbarData()).thenReturn(new NavbarData(List.of("season1")));
+        when(seasonService.getSeason("season1")).thenReturn(season);
+        when(seasonService.toSeasonData(season)).thenReturn(seasonData);
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.ADMINISTRATOR)
+    void shouldReturnImportRostersPage() throws Exception {
+        this.mockMvc.perform(get("/administration/season/season1/importRosters"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("importRosters"))
+                .andExpect(model().attribute("season", seasonData));
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.ADMINISTRATOR)
+    void shouldImportRosters() throws Exception {
+        RosterImportReportData report = new RosterImportReportData(1, 1,
+                List.of(new SkippedRosterRowData(3, "Name fehlt")), 5, 200);
+        when(rosterImportService.importRosters(eq(seasonData), any(Reader.class))).thenAnswer(invocation -> {
+            assertCsv(invocation.getArgument(1));
+            return report;
+        });
+
+        this.mockMvc.perform(multipart("/administration/season/season1/importRosters").file(rosterFile).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("rostersImported"))
+                .andExpect(model().attribute("state", "success"))
+                .andExpect(model().attribute("report", report));
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.ADMINISTRATOR)
+    void shouldReportFailedImport() throws Exception {
+        when(rosterImportService.importRosters(eq(seasonData), any(Reader.class)))
+                .thenThrow(new RosterImportFailedException("empty roster file"));
+
+        this.mockMvc.perform(multipart("/administration/season/season1/importRosters").file(rosterFile).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("rostersImported"))
+                .andExpect(model().attribute("state", "failure"))
+                .andExpect(model().attribute("errorMessage", "empty roster file"));
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.CLUB_ADMIN)
+    void shouldDenyImportRosters() throws Exception {
+        this.mockMvc.perform(multipart("/administration/season/season1/importRosters").file(rosterFile).with(csrf()))
+                .andExpect(status().isForbidden());
+        verify(rosterImportService, never()).importRosters(any(), any());
+    }
+
+    private static void assertCsv(Reader csv) throws Exception {
+        BufferedReader reader = new BufferedReader(csv);
+        if(!"Verein;Mannschaft;Brett;Name".equals(reader.readLine())) {
+            throw new AssertionError("unexpected csv");
+        }
+    }
+}
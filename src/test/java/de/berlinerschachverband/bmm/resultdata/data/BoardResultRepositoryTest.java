@@ -0,0 +1,158 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import de.berlinerschachverband.bmm.basedata.data.Club;
+import de.berlinerschachverband.bmm.basedata.data.Division;
+import de.berlinerschachverband.bmm.basedata.data.Season;
+import de.berlinerschachverband.bmm.basedata.data.Team;
+import de.berlinerschachverband.bmm.exceptions.ConstraintViolations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class BoardResultRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private BoardResultRepository boardResultRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    private Division division;
+    private Match match;
+
+    @BeforeEach
+    private void setUp() {
+        Season season = new Season();
+        season.setName("season1");
+        testEntityManager.persist(season);
+        division = new Division();
+        division.setName("division1");
+        division.setLevel(1);
+        division.setSeason(season);
+        testEntityManager.persist(division);
+        Club club = new Club();
+        club.setName("club1");
+        club.setActive(true);
+        testEntityManager.persist(club);
+        Team homeTeam = new Team();
+        homeTeam.setClub(club);
+        homeTeam.setNumber(1);
+        homeTeam.setDivision(division);
+        testEntityManager.persist(homeTeam);
+        Team awayTeam = new Team();
+        awayTeam.setClub(club);
+        awayTeam.setNumber(2);
+        awayTeam.setDivision(division);
+        testEntityManager.persist(awayTeam);
+        MatchDay matchDay = new MatchDay();
+        matchDay.setMatchDayNumber(1);
+        matchDay.setDivision(division);
+        testEntityManager.persist(matchDay);
+        match = new Match();
+        match.setMatchDay(matchDay);
+        match.setHomeTeam(homeTeam);
+        match.setAwayTeam(awayTeam);
+        testEntityManager.persist(match);
+        persistBoardResult(1, 1, BoardResultType.HOME_WIN);
+        persistBoardResult(2, 1, BoardResultType.HOME_WIN);
+        persistBoardResult(1, 2, BoardResultType.DRAW);
+        persistBoardResult(2, 2, BoardResultType.AWAY_WIN);
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void testFindLatestRevisionOfMatch() {
+        assertEquals(Optional.of(2), boardResultRepository.findLatestRevisionOfMatch(match.getId()));
+        assertEquals(Optional.empty(), boardResultRepository.findLatestRevisionOfMatch(match.getId() + 1));
+    }
+
+    @Test
+    void testFindLatestBoardResultsOfDivision() {
+        List<BoardResultOfMatchData> boardResults = boardResultRepository.findLatestBoardResultsOfDivision(division.getId());
+        assertEquals(2, boardResults.size());
+        assertTrue(boardResults.stream().allMatch(boardResult -> boardResult.revision() == 2));
+        assertEquals(List.of(BoardResultType.DRAW, BoardResultType.AWAY_WIN),
+                boardResults.stream().map(BoardResultOfMatchData::result).sorted().toList());
+    }
+
+    @Test
+    void testFindLatestLineUpsOfDivision() {
+        Match storedMatch = testEntityManager.find(Match.class, match.getId());
+        Player player = new Player();
+        player.setName("player1");
+        player.setTeam(storedMatch.getHomeTeam());
+        player.setNumber(1);
+        testEntityManager.persist(player);
+        BoardResult boardResult = new BoardResult();
+        boardResult.setMatch(storedMatch);
+        boardResult.setBoardNumber(2);
+        boardResult.setRevision(3);
+        boardResult.setHomePlayer(player);
+        boardResult.setResult(BoardResultType.HOME_WIN_BY_FORFEIT);
+        testEntityManager.persist(boardResult);
+        persistBoardResult(1, 3, BoardResultType.DOUBLE_FORFEIT);
+        testEntityManager.flush();
+
+        Long homeTeamId = storedMatch.getHomeTeam().getId();
+        Long awayTeamId = storedMatch.getAwayTeam().getId();
+        assertEquals(List.of(
+                new LineUpBoardData(1, match.getId(), homeTeamId, awayTeamId, 1, null, null),
+                new LineUpBoardData(1, match.getId(), homeTeamId, awayTeamId, 2, player.getId(), null)),
+                boardResultRepository.findLatestLineUpsOfDivision(division.getId()));
+    }
+
+    @Test
+    void testFindByIdForUpdate() {
+        assertEquals(match.getId(), matchRepository.findByIdForUpdate(match.getId()).orElseThrow().getId());
+        assertEquals(Optional.empty(), matchRepository.findByIdForUpdate(match.getId() + 1));
+    }
+
+    @Test
+    void testSameRevisionOfBoardCannotBeStoredTwice() {
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () -> {
+            BoardResult boardResult = new BoardResult();
+            boardResult.setMatch(testEntityManager.find(Match.class, match.getId()));
+            boardResult.setBoardNumber(1);
+            boardResult.setRevision(2);
+            boardResult.setResult(BoardResultType.HOME_WIN);
+            boardResultRepository.saveAndFlush(boardResult);
+        });
+        assertTrue(ConstraintViolations.isViolationOf(exception, BoardResult.MATCH_BOARD_REVISION_UK));
+    }
+
+    @Test
+    void testBoardResultWithUnknownPlayerIsNoRevisionConflict() {
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () -> {
+            BoardResult boardResult = new BoardResult();
+            boardResult.setMatch(testEntityManager.find(Match.class, match.getId()));
+            boardResult.setBoardNumber(1);
+            boardResult.setRevision(3);
+            boardResult.setHomePlayer(testEntityManager.getEntityManager().getReference(Player.class, 999L));
+            boardResult.setResult(BoardResultType.HOME_WIN);
+            boardResultRepository.saveAndFlush(boardResult);
+        });
+        assertFalse(ConstraintViolations.isViolationOf(exception, BoardResult.MATCH_BOARD_REVISION_UK));
+    }
+
+    private void persistBoardResult(int boardNumber, int revision, BoardResultType result) {
+        BoardResult boardResult = new BoardResult();
+        boardResult.setMatch(match);
+        boardResult.setBoardNumber(boardNumber);
+        boardResult.setRevision(revision);
+        boardResult.setResult(result);
+        testEntityManager.persist(boardResult);
+    }
+}
@@ -0,0 +1,116 @@
+package de.berlinerschachverband.bmm.resultdata.data;
+
+import de.berlinerschachverband.bmm.basedata.data.Club;
+import de.berlinerschachverband.bmm.basedata.data.Division;
+import de.berlinerschachverband.bmm.basedata.data.Season;
+import de.berlinerschachverband.bmm.basedata.data.Team;
+import de.berlinerschachverband.bmm.exceptions.ConstraintViolations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class PlayerRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Season season;
+    private Division division1;
+    private Division division2;
+
+    @BeforeEach
+    private void setUp() {
+        season = persistSeason("season1");
+        division1 = persistDivision("division1", 1, season);
+        division2 = persistDivision("division2", 2, season);
+    }
+
+    @Test
+    void testFindRostersOfClubsOfDivision() {
+        Club club1 = persistClub("club1");
+        Club club2 = persistClub("club2");
+        Team team1 = persistTeam(club1, 1, division1);
+        Team team2 = persistTeam(club1, 2, division2);
+        Team otherClubTeam = persistTeam(club2, 1, division2);
+        Team otherSeasonTeam = persistTeam(club1, 1, persistDivision("division1", 1, persistSeason("season2")));
+        Player player1 = persistPlayer(team1, 1, "4611016");
+        Player player2 = persistPlayer(team2, 1, null);
+        persistPlayer(otherClubTeam, 1, null);
+        persistPlayer(otherSeasonTeam, 1, null);
+        testEntityManager.flush();
+
+        assertEquals(List.of(
+                new RosterPlayerData(player1.getId(), club1.getId(), 1, 1, "4611016"),
+                new RosterPlayerData(player2.getId(), club1.getId(), 2, 1, null)),
+                playerRepository.findRostersOfClubsOfDivision(division1.getId()).stream()
+                        .sorted(Comparator.comparing(RosterPlayerData::id))
+                        .toList());
+    }
+
+    @Test
+    void testBoardOfTeamCannotBeTakenTwice() {
+        Team team = persistTeam(persistClub("club1"), 1, division1);
+        persistPlayer(team, 1, null);
+        testEntityManager.flush();
+
+        // the roster import inserts players with plain JDBC
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("insert into player (name, team_id, number) values ('player2', ?, 1)",
+                        team.getId()));
+        assertTrue(ConstraintViolations.isViolationOf(exception, Player.TEAM_NUMBER_UK));
+    }
+
+    private Season persistSeason(String name) {
+        Season season = new Season();
+        season.setName(name);
+        return testEntityManager.persist(season);
+    }
+
+    private Division persistDivision(String name, int level, Season season) {
+        Division division = new Division();
+        division.setName(name);
+        division.setLevel(level);
+        division.setSeason(season);
+        return testEntityManager.persist(division);
+    }
+
+    private Club persistClub(String name) {
+        Club club = new Club();
+        club.setName(name);
+        club.setActive(true);
+        return testEntityManager.persist(club);
+    }
+
+    private Team persistTeam(Club club, int number, Division division) {
+        Team team = new Team();
+        team.setClub(club);
+        team.setNumber(number);
+        team.setDivision(division);
+        return testEntityManager.persist(team);
+    }
+
+    private Player persistPlayer(Team team, int number, String fideId) {
+        Player player = new Player();
+        player.setName("player" + number);
+        player.setTeam(team);
+        player.setNumber(number);
+        player.setFideId(fideId);
+        return testEntityManager.persist(player);
+    }
+}
@@ -0,0 +1,80 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BergerTableServiceTest {
+
+    private final BergerTableService bergerTableService = new BergerTableService();
+
+    @Test
+    void testBergerTableForFourTeams() {
+        assertEquals(List.of(
+                List.of("1-4", "2-3"),
+                List.of("4-3", "1-2"),
+                List.of("2-4", "3-1")
+        ), rounds(bergerTableService.getBergerTable(4)));
+    }
+
+    @Test
+    void testBergerTableForSixTeams() {
+        assertEquals(List.of(
+                List.of("1-6", "2-5", "3-4"),
+                List.of("6-4", "5-3", "1-2"),
+                List.of("2-6", "3-1", "4-5"),
+                List.of("6-5", "1-4", "2-3"),
+                List.of("3-6", "4-2", "5-1")
+        ), rounds(bergerTableService.getBergerTable(6)));
+    }
+
+    @Test
+    void testBergerTableForOddNumberOfTeams() {
+        BergerTable bergerTable = bergerTableService.getBergerTable(7);
+        assertEquals(7, bergerTable.getNumberOfTeams());
+        assertEquals(7, bergerTable.getNumberOfRounds());
+        Set<Set<Integer>> encounters = new HashSet<>();
+        for(int round = 0; round < bergerTable.getNumberOfRounds(); round++) {
+            int byes = 0;
+            for(int pairing = 0; pairing < bergerTable.getPairingsPerRound(); pairing++) {
+                int home = bergerTable.getHomePosition(round, pairing);
+                int away = bergerTable.getAwayPosition(round, pairing);
+                if(bergerTable.isBye(home) || bergerTable.isBye(away)) {
+                    byes++;
+                } else {
+                    assertTrue(encounters.add(Set.of(home, away)));
+                }
+            }
+            assertEquals(1, byes);
+        }
+        assertEquals(21, encounters.size());
+    }
+
+    @Test
+    void testGetBergerTableIsCached() {
+        assertSame(bergerTableService.getBergerTable(10), bergerTableService.getBergerTable(10));
+    }
+
+    @Test
+    void testGetBergerTableWithLessThanTwoTeams() {
+        assertThrows(IllegalArgumentException.class, () -> bergerTableService.getBergerTable(1));
+    }
+
+    private List<List<String>> rounds(BergerTable bergerTable) {
+        List<List<String>> rounds = new ArrayList<>();
+        for(int round = 0; round < bergerTable.getNumberOfRounds(); round++) {
+            List<String> pairings = new ArrayList<>();
+            for(int pairing = 0; pairing < bergerTable.getPairingsPerRound(); pairing++) {
+                pairings.add((bergerTable.getHomePosition(round, pairing) + 1) + "-"
+                        + (bergerTable.getAwayPosition(round, pairing) + 1));
+            }
+            rounds.add(pairings);
+        }
+        return rounds;
+    }
+}
@@ -0,0 +1,28 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void testNextRecord() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader(
+                "a;b;c\r\n\r\n1; 2 ;\n\"x;y\";\"say \"\"hi\"\"\";\"two\nlines\"\nlast"), ';');
+
+        assertEquals(List.of("a", "b", "c"), csvReader.nextRecord());
+        assertEquals(1, csvReader.getLineNumber());
+        assertEquals(List.of("1", "2", ""), csvReader.nextRecord());
+        assertEquals(3, csvReader.getLineNumber());
+        assertEquals(List.of("x;y", "say \"hi\"", "two\nlines"), csvReader.nextRecord());
+        assertEquals(4, csvReader.getLineNumber());
+        assertEquals(List.of("last"), csvReader.nextRecord());
+        assertEquals(6, csvReader.getLineNumber());
+        assertNull(csvReader.nextRecord());
+    }
+}
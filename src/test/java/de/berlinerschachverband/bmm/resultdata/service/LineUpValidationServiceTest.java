@@ -0,0 +1,114 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.resultdata.data.BoardResultRepository;
+import de.berlinerschachverband.bmm.resultdata.data.LineUpBoardData;
+import de.berlinerschachverband.bmm.resultdata.data.LineUpViolationData;
+import de.berlinerschachverband.bmm.resultdata.data.LineUpViolationType;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayLineUpValidationData;
+import de.berlinerschachverband.bmm.resultdata.data.PlayerRepository;
+import de.berlinerschachverband.bmm.resultdata.data.RatingListType;
+import de.berlinerschachverband.bmm.resultdata.data.RosterPlayerData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LineUpValidationServiceTest {
+
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private final BoardResultRepository boardResultRepository = mock(BoardResultRepository.class);
+    private final TeamService teamService = mock(TeamService.class);
+    private final RatingListService ratingListService = mock(RatingListService.class);
+    private LineUpValidationService lineUpValidationService;
+    private DivisionData divisionData;
+
+    @BeforeEach
+    private void setUp() {
+        lineUpValidationService = new LineUpValidationService(playerRepository, boardResultRepository, teamService,
+                ratingListService, 200);
+        divisionData = new DivisionData(1L, "division1", 1, new SeasonData(1L, "season1"));
+        ClubData club1 = new ClubData(1L, "club1", true);
+        ClubData club2 = new ClubData(2L, "club2", true);
+        when(teamService.getTeamsOfDivision(divisionData)).thenReturn(Set.of(
+                new TeamData(11L, club1, Optional.of(divisionData), 1),
+                new TeamData(12L, club1, Optional.of(divisionData), 2),
+                new TeamData(21L, club2, Optional.of(divisionData), 1),
+                new TeamData(22L, club2, Optional.of(divisionData), 2)));
+        when(playerRepository.findRostersOfClubsOfDivision(1L)).thenReturn(List.of(
+                new RosterPlayerData(101L, 1L, 1, 1, null),
+                new RosterPlayerData(102L, 1L, 1, 2, null),
+                new RosterPlayerData(111L, 1L, 2, 1, null),
+                new RosterPlayerData(112L, 1L, 2, 2, null),
+                // substitute of a team playing in a lower division
+                new RosterPlayerData(121L, 1L, 3, 1, null),
+                new RosterPlayerData(201L, 2L, 1, 1, "4611016"),
+                new RosterPlayerData(202L, 2L, 1, 2, "1503014"),
+                new RosterPlayerData(211L, 2L, 2, 1, null)));
+        when(ratingListService.getRating(RatingListType.DWZ, "4611016")).thenReturn(OptionalInt.of(1800));
+        when(ratingListService.getRating(RatingListType.FIDE, "1503014")).thenReturn(OptionalInt.of(2100));
+    }
+
+    @Test
+    void testValidateLineUps() {
+        when(boardResultRepository.findLatestLineUpsOfDivision(1L)).thenReturn(List.of(
+                new LineUpBoardData(1, 1L, 11L, 21L, 1, 101L, 201L),
+                new LineUpBoardData(1, 1L, 11L, 21L, 2, 102L, 202L),
+                new LineUpBoardData(1, 1L, 11L, 21L, 3, null, 211L),
+                new LineUpBoardData(1, 2L, 12L, 22L, 1, 112L, 211L),
+                new LineUpBoardData(1, 2L, 12L, 22L, 2, 111L, null),
+                new LineUpBoardData(1, 2L, 12L, 22L, 3, 121L, null),
+                new LineUpBoardData(2, 3L, 11L, 22L, 1, 102L, null),
+                new LineUpBoardData(2, 3L, 11L, 22L, 2, 111L, 999L),
+                new LineUpBoardData(2, 4L, 12L, 21L, 1, 101L, 201L),
+                new LineUpBoardData(2, 4L, 12L, 21L, 2, 112L, null)));
+
+        List<MatchDayLineUpValidationData> matchDays = lineUpValidationService.validateLineUps(divisionData);
+
+        assertEquals(List.of(1, 2), matchDays.stream().map(MatchDayLineUpValidationData::matchDayNumber).toList());
+        assertEquals(List.of(6, 4), matchDays.stream().map(MatchDayLineUpValidationData::numberOfBoards).toList());
+        assertTrue(matchDays.stream().allMatch(matchDay -> matchDay.durationNanos() > 0));
+        assertEquals(List.of(
+                new LineUpViolationData(1L, 21L, 2, 202L, LineUpViolationType.RATING_ORDER),
+                new LineUpViolationData(2L, 22L, 1, 211L, LineUpViolationType.PLAYED_TWICE_ON_MATCH_DAY),
+                new LineUpViolationData(2L, 12L, 2, 111L, LineUpViolationType.BOARD_ORDER)),
+                matchDays.get(0).violations());
+        assertEquals(List.of(
+                new LineUpViolationData(3L, 11L, 2, 111L, LineUpViolationType.PLAYED_FOR_TWO_TEAMS),
+                new LineUpViolationData(3L, 22L, 2, 999L, LineUpViolationType.NOT_ON_ROSTER),
+                new LineUpViolationData(4L, 12L, 1, 101L, LineUpViolationType.ILLEGAL_SUBSTITUTION),
+                new LineUpViolationData(4L, 12L, 1, 101L, LineUpViolationType.PLAYED_FOR_TWO_TEAMS)),
+                matchDays.get(1).violations());
+        // the FIDE rating is only looked up for players without DWZ
+        verify(ratingListService, never()).getRating(RatingListType.FIDE, "4611016");
+        verify(ratingListService, atLeastOnce()).getRating(RatingListType.FIDE, "1503014");
+    }
+
+    @Test
+    void testValidateLineUpsWithPlayerOfOtherClub() {
+        when(boardResultRepository.findLatestLineUpsOfDivision(1L)).thenReturn(List.of(
+                new LineUpBoardData(1, 1L, 11L, 21L, 1, 201L, 101L)));
+
+        assertEquals(List.of(
+                new LineUpViolationData(1L, 11L, 1, 201L, LineUpViolationType.NOT_ON_ROSTER),
+                new LineUpViolationData(1L, 21L, 1, 101L, LineUpViolationType.NOT_ON_ROSTER)),
+                lineUpValidationService.validateLineUps(divisionData).get(0).violations());
+    }
+
+    @Test
+    void testValidateLineUpsWithoutResults() {
+        when(boardResultRepository.findLatestLineUpsOfDivision(1L)).thenReturn(List.of());
+
+        assertEquals(List.of(), lineUpValidationService.validateLineUps(divisionData));
+    }
+}
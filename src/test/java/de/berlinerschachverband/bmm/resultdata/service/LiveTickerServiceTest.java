@@ -0,0 +1,162 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.events.StandingsChangedEvent;
+import de.berlinerschachverband.bmm.resultdata.data.MatchScoreData;
+import de.berlinerschachverband.bmm.resultdata.data.thymeleaf.RegularDivisionTableData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveTickerServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new Jdk8Module());
+    private LiveTickerService liveTickerService;
+    private StandingsChangedEvent standingsChangedEvent;
+
+    @BeforeEach
+    private void setUp() {
+        // events are sent right away on the calling thread
+        liveTickerService = new LiveTickerService(objectMapper, Runnable::run);
+        DivisionData division = new DivisionData(1L, "division1", 1, new SeasonData(1L, "season1"));
+        standingsChangedEvent = new StandingsChangedEvent(division,
+                new MatchScoreData(1L, 1, 1L, 2L, 7, 9),
+                List.of(new RegularDivisionTableData("1", "club2 1", "1", "2", "4,5"),
+                        new RegularDivisionTableData("2", "club1 1", "1", "0", "3,5")));
+    }
+
+    @Test
+    void testOnStandingsChanged() {
+        RecordingSseEmitter divisionSubscriber = new RecordingSseEmitter(false);
+        RecordingSseEmitter seasonSubscriber = new RecordingSseEmitter(false);
+        RecordingSseEmitter otherDivisionSubscriber = new RecordingSseEmitter(false);
+        liveTickerService.subscribe(LiveTickerService.divisionTopic("season1", "division1"), divisionSubscriber);
+        liveTickerService.subscribe(LiveTickerService.seasonTopic("season1"), seasonSubscriber);
+        liveTickerService.subscribe(LiveTickerService.divisionTopic("season1", "division2"), otherDivisionSubscriber);
+
+        liveTickerService.onStandingsChanged(standingsChangedEvent);
+
+        assertEquals(1, divisionSubscriber.events.size());
+        assertEquals(divisionSubscriber.events, seasonSubscriber.events);
+        assertTrue(otherDivisionSubscriber.events.isEmpty());
+        String event = divisionSubscriber.events.get(0);
+        assertTrue(event.contains("event:result"));
+        assertTrue(event.contains("\"seasonName\":\"season1\""));
+        assertTrue(event.contains("\"divisionName\":\"division1\""));
+        assertTrue(event.contains("\"teamName\":\"club2 1\""));
+    }
+
+    @Test
+    void testBrokenSubscriberIsDropped() {
+        String topic = LiveTickerService.divisionTopic("season1", "division1");
+        RecordingSseEmitter brokenSubscriber = new RecordingSseEmitter(true);
+        RecordingSseEmitter subscriber = new RecordingSseEmitter(false);
+        liveTickerService.subscribe(topic, brokenSubscriber);
+        liveTickerService.subscribe(topic, subscriber);
+        assertEquals(2, liveTickerService.getNumberOfSubscribers(topic));
+
+        liveTickerService.onStandingsChanged(standingsChangedEvent);
+        liveTickerService.sendHeartbeat();
+
+        assertEquals(1, liveTickerService.getNumberOfSubscribers(topic));
+        assertEquals(2, subscriber.events.size());
+        assertTrue(subscriber.events.get(1).startsWith(":heartbeat"));
+    }
+
+    @Test
+    void testStalledSubscriberDoesNotDelayOthers() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            liveTickerService = new LiveTickerService(objectMapper, executor);
+            String topic = LiveTickerService.divisionTopic("season1", "division1");
+            StalledSseEmitter stalledSubscriber = new StalledSseEmitter();
+            RecordingSseEmitter subscriber = new RecordingSseEmitter(false);
+            liveTickerService.subscribe(topic, stalledSubscriber);
+            liveTickerService.subscribe(topic, subscriber);
+
+            liveTickerService.onStandingsChanged(standingsChangedEvent);
+
+            assertTrue(stalledSubscriber.sending.await(5, TimeUnit.SECONDS));
+            awaitEvents(subscriber, 1);
+
+            // one more event than fits into the queue of the stalled subscriber drops it,
+            // the other subscriber keeps up with every single one
+            for(int heartbeat = 1; heartbeat <= LiveTickerService.MAX_QUEUED_EVENTS + 1; heartbeat++) {
+                liveTickerService.sendHeartbeat();
+                awaitEvents(subscriber, 1 + heartbeat);
+            }
+
+            assertEquals(1, liveTickerService.getNumberOfSubscribers(topic));
+            stalledSubscriber.release.countDown();
+            assertTrue(stalledSubscriber.completed.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitEvents(RecordingSseEmitter subscriber, int numberOfEvents) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while(subscriber.events.size() < numberOfEvents && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(numberOfEvents, subscriber.events.size());
+    }
+
+    private static class StalledSseEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    private static class RecordingSseEmitter extends SseEmitter {
+
+        private final boolean broken;
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        private RecordingSseEmitter(boolean broken) {
+            this.broken = broken;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if(broken) {
+                throw new IOException("connection reset");
+            }
+            Set<DataWithMediaType> dataWithMediaTypes = builder.build();
+            StringBuilder event = new StringBuilder();
+            dataWithMediaTypes.forEach(dataWithMediaType -> event.append(dataWithMediaType.getData()));
+            events.add(event.toString());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    void testAddAndContains() {
+        LongHashSet longHashSet = new LongHashSet(0);
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+        for(int index = 0; index < 10_000; index++) {
+            long key = random.nextInt(5_000) * 1000L;
+            assertEquals(expected.add(key), longHashSet.add(key));
+        }
+        assertEquals(expected.size(), longHashSet.size());
+        expected.forEach(key -> assertTrue(longHashSet.contains(key)));
+        assertFalse(longHashSet.contains(1L));
+        assertTrue(longHashSet.add(-1L));
+        assertTrue(longHashSet.contains(-1L));
+    }
+}
@@ -0,0 +1,177 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.data.Division;
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.Season;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.Team;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
+import de.berlinerschachverband.bmm.exceptions.BmmException;
+import de.berlinerschachverband.bmm.exceptions.MatchDayAlreadyExistsException;
+import de.berlinerschachverband.bmm.resultdata.data.Match;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDay;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayCreationReportData;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayData;
+import de.berlinerschachverband.bmm.resultdata.data.MatchDayRepository;
+import de.berlinerschachverband.bmm.resultdata.data.MatchRepository;
+import de.berlinerschachverband.bmm.resultdata.data.SkippedDivisionData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MatchDayServiceTest {
+
+    private final DivisionService divisionService = mock(DivisionService.class);
+    private final MatchDayRepository matchDayRepository = mock(MatchDayRepository.class);
+    private final TeamService teamService = mock(TeamService.class);
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
+    private MatchDayService matchDayService;
+    private Division division;
+    private DivisionData divisionData;
+
+    @BeforeEach
+    private void setUp() {
+        matchDayService = new MatchDayService(divisionService, matchDayRepository, teamService,
+                matchRepository, new BergerTableService(), applicationEventPublisher);
+        Season season = new Season();
+        season.setId(1L);
+        season.setName("season1");
+        division = new Division();
+        division.setId(1L);
+        division.setName("division1");
+        division.setLevel(1);
+        division.setSeason(season);
+        divisionData = new DivisionData(1L, "division1", 1, new SeasonData(1L, "season1"));
+        when(divisionService.getDivisionByNameAndSeasonName("division1", "season1")).thenReturn(division);
+    }
+
+    @Test
+    void testCreateMatchDaysForDivision() {
+        when(matchDayRepository.findByDivision_Id(1L)).thenReturn(List.of());
+
+        matchDayService.createMatchDaysForDivision(divisionData, 3);
+
+        ArgumentCaptor<List<MatchDay>> captor = ArgumentCaptor.forClass(List.class);
+        verify(matchDayRepository, times(1)).saveAll(captor.capture());
+        assertEquals(List.of(1, 2, 3), captor.getValue().stream().map(MatchDay::getMatchDayNumber).toList());
+        assertTrue(captor.getValue().stream().allMatch(matchDay -> matchDay.getDivision() == division));
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(new ContentChangedEvent("season1", Optional.of("division1")));
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(new ContentChangedEvent("season1", Optional.empty()));
+    }
+
+    @Test
+    void testCreateMatchDaysForDivisionWithExistingMatchDays() {
+        MatchDay existingMatchDay = new MatchDay();
+        existingMatchDay.setMatchDayNumber(2);
+        existingMatchDay.setDivision(division);
+        when(matchDayRepository.findByDivision_Id(1L)).thenReturn(List.of(existingMatchDay));
+
+        BmmException exception = assertThrows(MatchDayAlreadyExistsException.class,
+                () -> matchDayService.createMatchDaysForDivision(divisionData, 3));
+        assertEquals("division: division1, matchDayNumber: 2", exception.getMessage());
+        verify(matchDayRepository, never()).saveAll(any());
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void testCreateRoundRobinMatchDaysForSeason() {
+        SeasonData seasonData = new SeasonData(1L, "season1");
+        DivisionData divisionData2 = new DivisionData(2L, "division2", 2, seasonData);
+        DivisionData divisionData3 = new DivisionData(3L, "division3", 2, seasonData);
+        DivisionData divisionData4 = new DivisionData(4L, "division4", 3, seasonData);
+        when(divisionService.getDivisionsOfSeason(seasonData))
+                .thenReturn(Set.of(divisionData4, divisionData3, divisionData2, divisionData));
+        when(teamService.getTeamsByDivisionOfSeason(seasonData)).thenReturn(Map.of(
+                1L, teams(divisionData, 1, 4),
+                2L, teams(divisionData2, 5, 5),
+                3L, teams(divisionData3, 10, 1),
+                4L, teams(divisionData4, 11, 6)));
+        when(teamService.getTeamReference(any())).thenAnswer(invocation -> {
+            Team team = new Team();
+            team.setId(invocation.getArgument(0));
+            return team;
+        });
+        when(matchDayRepository.findDivisionIdsWithMatchDaysOfSeason(1L)).thenReturn(Set.of(4L));
+        when(divisionService.getDivisionReference(1L)).thenReturn(division);
+        when(divisionService.getDivisionReference(2L)).thenReturn(division);
+
+        MatchDayCreationReportData report = matchDayService.createRoundRobinMatchDaysForSeason(seasonData);
+
+        assertEquals(List.of(divisionData, divisionData2), report.createdDivisions());
+        assertEquals(List.of(
+                new SkippedDivisionData(divisionData3, "weniger als 2 Mannschaften"),
+                new SkippedDivisionData(divisionData4, "Spieltage existieren bereits")),
+                report.skippedDivisions());
+        ArgumentCaptor<List<MatchDay>> captor = ArgumentCaptor.forClass(List.class);
+        verify(matchDayRepository, times(1)).saveAll(captor.capture());
+        // 4 teams play 3 match days, 5 teams play 5 match days.
+        assertEquals(List.of(1, 2, 3, 1, 2, 3, 4, 5),
+                captor.getValue().stream().map(MatchDay::getMatchDayNumber).toList());
+
+        ArgumentCaptor<List<Match>> matchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(matchRepository, times(1)).saveAll(matchCaptor.capture());
+        List<Match> matches = matchCaptor.getValue();
+        // 4 teams play 2 matches per match day, 5 teams play 2 matches per match day and one team has a bye.
+        assertEquals(16, matches.size());
+        Match firstMatch = matches.get(0);
+        assertSame(captor.getValue().get(0), firstMatch.getMatchDay());
+        assertEquals(1L, firstMatch.getHomeTeam().getId());
+        assertEquals(4L, firstMatch.getAwayTeam().getId());
+        Map<Set<Long>, Long> encountersOfDivision2 = matches.subList(6, 16).stream()
+                .collect(Collectors.groupingBy(
+                        match -> Set.of(match.getHomeTeam().getId(), match.getAwayTeam().getId()),
+                        Collectors.counting()));
+        assertEquals(10, encountersOfDivision2.size());
+        assertTrue(encountersOfDivision2.values().stream().allMatch(count -> count == 1));
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(new ContentChangedEvent("season1", Optional.of("division1")));
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(new ContentChangedEvent("season1", Optional.of("division2")));
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(new ContentChangedEvent("season1", Optional.empty()));
+        verifyNoMoreInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void testGetMatchDaysOfDivision() {
+        MatchDay matchDay = new MatchDay();
+        matchDay.setId(5L);
+        matchDay.setMatchDayNumber(1);
+        matchDay.setDivision(division);
+        when(matchDayRepository.findByDivision_IdOrderByMatchDayNumber(1L)).thenReturn(List.of(matchDay));
+
+        assertEquals(List.of(new MatchDayData(5L, 1, divisionData)), matchDayService.getMatchDaysOfDivision(divisionData));
+    }
+
+    @Test
+    void testCreateMatchDaysForDivisionWithoutMatchDays() {
+        matchDayService.createMatchDaysForDivision(divisionData, 0);
+        verifyNoInteractions(matchDayRepository);
+    }
+
+    private List<TeamData> teams(DivisionData divisionData, int firstTeamId, int numberOfTeams) {
+        return IntStream.range(firstTeamId, firstTeamId + numberOfTeams)
+                .mapToObj(teamId -> new TeamData((long) teamId,
+                        new ClubData((long) teamId, "club" + teamId, true), Optional.of(divisionData), 1))
+                .toList();
+    }
+}
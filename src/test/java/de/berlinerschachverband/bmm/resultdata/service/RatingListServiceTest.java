@@ -0,0 +1,105 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.exceptions.RatingListImportFailedException;
+import de.berlinerschachverband.bmm.resultdata.data.RatingListImportReportData;
+import de.berlinerschachverband.bmm.resultdata.data.RatingListType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingListServiceTest {
+
+    // ID Number, Name, Fed, Sex, Tit, WTit, OTit, FOA, SRtng, SGm, SK, B-day, Flag
+    private static final String FIDE_ROW = "%-15s%-61s%-4s%-4s%-5s%-5s%-15s%-4s%-6s%-4s%-3s%-6s%s";
+
+    @TempDir
+    Path tempDir;
+
+    private RatingListService ratingListService;
+
+    @BeforeEach
+    private void setUp() {
+        ratingListService = new RatingListService("", "");
+    }
+
+    @Test
+    void testImportFideRatingList() throws IOException {
+        Path file = tempDir.resolve("players_list_foa.txt");
+        Files.writeString(file, String.join("\r\n",
+                FIDE_ROW.formatted("ID Number", "Name", "Fed", "Sex", "Tit", "WTit", "OTit", "FOA", "SRtng", "SGm", "SK",
+                        "B-day", "Flag"),
+                FIDE_ROW.formatted("1503014", "Carlsen, Magnus", "NOR", "M", "GM", "", "", "", "2830", "10", "10",
+                        "1990", ""),
+                FIDE_ROW.formatted("4611016", "Müller, Hans", "GER", "M", "", "", "", "", "1875", "0", "20", "1970", ""),
+                FIDE_ROW.formatted("4611024", "Unrated, Player", "GER", "F", "", "", "", "", "", "", "", "2001", "wi"),
+                "4611032        Short, Line"), StandardCharsets.UTF_8);
+
+        RatingListImportReportData report = ratingListService.importRatingList(RatingListType.FIDE, file);
+
+        assertEquals(new RatingListImportReportData(RatingListType.FIDE, 2, report.durationMillis()), report);
+        assertEquals(OptionalInt.of(2830), ratingListService.getRating(RatingListType.FIDE, 1503014));
+        assertEquals(OptionalInt.of(1875), ratingListService.getRating(RatingListType.FIDE, "4611016"));
+        assertEquals(OptionalInt.empty(), ratingListService.getRating(RatingListType.FIDE, 4611024));
+        assertEquals(OptionalInt.empty(), ratingListService.getRating(RatingListType.FIDE, 4611032));
+        assertEquals(OptionalInt.empty(), ratingListService.getRating(RatingListType.FIDE, "no id"));
+        assertEquals(OptionalInt.empty(), ratingListService.getRating(RatingListType.DWZ, 1503014));
+    }
+
+    @Test
+    void testImportDwzRatingList() throws IOException {
+        Path file = tempDir.resolve("spieler.csv");
+        Files.writeString(file, """
+                ID,VKZ,Mgl-Nr,Status,Spielername,Geschlecht,DWZ,DWZ-Index,FIDE-Elo,FIDE-Titel,FIDE-ID
+                1,"B0101","0001",A,"Müller,Hans",M,1802,45,1875,,4611016
+                2,"B0101","0002",A,"Schmidt,Eva",W,1650,12,,,
+                3,"B0101","0003",P,"Nowak,Jan",M,,,1700,,4611040
+                4,"B0102","0001",A,"Carlsen,Magnus",M,2850,3,2830,GM,"1503014"
+                """, StandardCharsets.UTF_8);
+
+        RatingListImportReportData report = ratingListService.importRatingList(RatingListType.DWZ, file);
+
+        assertEquals(2, report.numberOfRatings());
+        assertEquals(OptionalInt.of(1802), ratingListService.getRating(RatingListType.DWZ, 4611016));
+        assertEquals(OptionalInt.of(2850), ratingListService.getRating(RatingListType.DWZ, 1503014));
+        assertEquals(OptionalInt.empty(), ratingListService.getRating(RatingListType.DWZ, 4611040));
+    }
+
+    @Test
+    void testImportLargeRatingListReplacesPreviousOne() throws IOException {
+        Path file = tempDir.resolve("large.csv");
+        StringBuilder csv = new StringBuilder("FIDE_ID;DWZ\n");
+        for(int fideId = 1; fideId <= 200_000; fideId++) {
+            csv.append(fideId * 7).append(';').append(1000 + fideId % 1500).append('\n');
+        }
+        Files.writeString(file, csv);
+
+        assertEquals(200_000, ratingListService.importRatingList(RatingListType.DWZ, file).numberOfRatings());
+        assertEquals(OptionalInt.of(1001), ratingListService.getRating(RatingListType.DWZ, 7));
+        assertEquals(OptionalInt.of(1000 + 199_999 % 1500), ratingListService.getRating(RatingListType.DWZ, 199_999 * 7));
+        assertEquals(OptionalInt.empty(), ratingListService.getRating(RatingListType.DWZ, 8));
+
+        Path update = Files.writeString(tempDir.resolve("update.csv"), "FIDE_ID;DWZ\n7;2000\n");
+        assertEquals(1, ratingListService.importRatingList(RatingListType.DWZ, update).numberOfRatings());
+        assertEquals(OptionalInt.of(2000), ratingListService.getRating(RatingListType.DWZ, 7));
+        assertEquals(OptionalInt.empty(), ratingListService.getRating(RatingListType.DWZ, 14));
+    }
+
+    @Test
+    void testImportRatingListWithoutRatingColumn() throws IOException {
+        Path file = tempDir.resolve("broken.csv");
+        Files.writeString(file, "ID,Name,FIDE-ID\n1,Hans,4611016\n");
+
+        assertThrows(RatingListImportFailedException.class,
+                () -> ratingListService.importRatingList(RatingListType.DWZ, file));
+        assertThrows(RatingListImportFailedException.class,
+                () -> ratingListService.importRatingList(RatingListType.FIDE, tempDir.resolve("missing.txt")));
+    }
+}
@@ -0,0 +1,140 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.Division;
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.Team;
+import de.berlinerschachverband.bmm.basedata.service.DivisionService;
+import de.berlinerschachverband.bmm.events.MatchResultSubmittedEvent;
+import de.berlinerschachverband.bmm.exceptions.BmmException;
+import de.berlinerschachverband.bmm.exceptions.MatchNotFoundException;
+import de.berlinerschachverband.bmm.exceptions.MatchResultOutdatedException;
+import de.berlinerschachverband.bmm.resultdata.data.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ResultServiceTest {
+
+    private final BoardResultRepository boardResultRepository = mock(BoardResultRepository.class);
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private final DivisionService divisionService = mock(DivisionService.class);
+    private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
+    private ResultService resultService;
+    private DivisionData divisionData;
+    private List<BoardResultData> boardResults;
+
+    @BeforeEach
+    private void setUp() {
+        resultService = new ResultService(boardResultRepository, matchRepository, playerRepository,
+                divisionService, applicationEventPublisher);
+        Division division = new Division();
+        division.setId(1L);
+        MatchDay matchDay = new MatchDay();
+        matchDay.setDivision(division);
+        Team homeTeam = new Team();
+        homeTeam.setId(1L);
+        Team awayTeam = new Team();
+        awayTeam.setId(2L);
+        Match match = new Match();
+        match.setId(1L);
+        match.setMatchDay(matchDay);
+        match.setHomeTeam(homeTeam);
+        match.setAwayTeam(awayTeam);
+        divisionData = new DivisionData(1L, "division1", 1, new SeasonData(1L, "season1"));
+        when(matchRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(match));
+        when(divisionService.toDivisionData(division)).thenReturn(divisionData);
+        when(playerRepository.getOne(any())).thenReturn(new Player());
+        boardResults = List.of(
+                new BoardResultData(1, Optional.of(1L), Optional.of(2L), BoardResultType.HOME_WIN),
+                new BoardResultData(2, Optional.of(3L), Optional.of(4L), BoardResultType.DRAW),
+                new BoardResultData(3, Optional.empty(), Optional.of(5L), BoardResultType.AWAY_WIN_BY_FORFEIT));
+    }
+
+    @Test
+    void testSubmitMatchResult() {
+        when(boardResultRepository.findLatestRevisionOfMatch(1L)).thenReturn(Optional.of(1));
+
+        MatchScoreData matchScore = resultService.submitMatchResult(1L, 1, boardResults);
+
+        assertEquals(new MatchScoreData(1L, 2, 1L, 2L, 3, 3), matchScore);
+        ArgumentCaptor<List<BoardResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(boardResultRepository, times(1)).saveAll(captor.capture());
+        assertEquals(3, captor.getValue().size());
+        assertTrue(captor.getValue().stream().allMatch(boardResult -> boardResult.getRevision() == 2));
+        assertNull(captor.getValue().get(2).getHomePlayer());
+        verify(boardResultRepository, times(1)).flush();
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(new MatchResultSubmittedEvent(divisionData, matchScore));
+    }
+
+    @Test
+    void testSubmitMatchResultBasedOnOutdatedRevision() {
+        when(boardResultRepository.findLatestRevisionOfMatch(1L)).thenReturn(Optional.of(2));
+
+        BmmException exception = assertThrows(MatchResultOutdatedException.class,
+                () -> resultService.submitMatchResult(1L, 1, boardResults));
+        assertEquals("match: 1, revision: 1", exception.getMessage());
+        verify(boardResultRepository, never()).saveAll(any());
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void testSubmitMatchResultConcurrently() {
+        when(boardResultRepository.findLatestRevisionOfMatch(1L)).thenReturn(Optional.empty());
+        doThrow(new DataIntegrityViolationException("BOARD_RESULT_MATCH_BOARD_REVISION_UK"))
+                .when(boardResultRepository).flush();
+
+        assertThrows(MatchResultOutdatedException.class,
+                () -> resultService.submitMatchResult(1L, 0, boardResults));
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void testSubmitMatchResultWithUnknownPlayer() {
+        when(boardResultRepository.findLatestRevisionOfMatch(1L)).thenReturn(Optional.empty());
+        doThrow(new DataIntegrityViolationException("BOARD_RESULT_HOME_PLAYER_ID_FK"))
+                .when(boardResultRepository).flush();
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> resultService.submitMatchResult(1L, 0, boardResults));
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void testSubmitMatchResultForUnknownMatch() {
+        assertThrows(MatchNotFoundException.class,
+                () -> resultService.submitMatchResult(2L, 0, boardResults));
+    }
+
+    @Test
+    void testSubmitMatchResultWithDuplicateBoardNumber() {
+        assertThrows(IllegalArgumentException.class,
+                () -> resultService.submitMatchResult(1L, 0, List.of(
+                        new BoardResultData(1, Optional.empty(), Optional.empty(), BoardResultType.DOUBLE_FORFEIT),
+                        new BoardResultData(1, Optional.empty(), Optional.empty(), BoardResultType.DOUBLE_FORFEIT))));
+    }
+
+    @Test
+    void testGetMatchScoresOfDivision() {
+        when(boardResultRepository.findLatestBoardResultsOfDivision(1L)).thenReturn(List.of(
+                new BoardResultOfMatchData(1L, 2, 1L, 2L, BoardResultType.HOME_WIN),
+                new BoardResultOfMatchData(2L, 1, 3L, 4L, BoardResultType.DRAW),
+                new BoardResultOfMatchData(1L, 2, 1L, 2L, BoardResultType.DRAW)));
+
+        assertEquals(List.of(
+                new MatchScoreData(1L, 2, 1L, 2L, 3, 1),
+                new MatchScoreData(2L, 1, 3L, 4L, 1, 1)
+        ), resultService.getMatchScoresOfDivision(divisionData));
+    }
+}
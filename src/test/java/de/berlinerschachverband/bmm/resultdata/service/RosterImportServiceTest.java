@@ -0,0 +1,125 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.exceptions.RosterImportFailedException;
+import de.berlinerschachverband.bmm.resultdata.data.PlayerBoardData;
+import de.berlinerschachverband.bmm.resultdata.data.PlayerRepository;
+import de.berlinerschachverband.bmm.resultdata.data.RosterImportReportData;
+import de.berlinerschachverband.bmm.resultdata.data.SkippedRosterRowData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RosterImportServiceTest {
+
+    private final TeamService teamService = mock(TeamService.class);
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<List<Object[]>> insertedBatches = new ArrayList<>();
+    private RosterImportService rosterImportService;
+    private SeasonData season;
+
+    @BeforeEach
+    private void setUp() {
+        rosterImportService = new RosterImportService(teamService, playerRepository, jdbcTemplate, 2);
+        season = new SeasonData(1L, "season1");
+        DivisionData division = new DivisionData(1L, "division1", 1, season);
+        when(teamService.getTeamsByDivisionOfSeason(season)).thenReturn(Map.of(1L, List.of(
+                new TeamData(10L, new ClubData(1L, "club1", true), Optional.of(division), 1),
+                new TeamData(11L, new ClubData(1L, "club1", true), Optional.of(division), 2),
+                new TeamData(20L, new ClubData(2L, "club2", true), Optional.of(division), 1))));
+        when(playerRepository.findBoardsOfSeason(1L)).thenReturn(List.of(new PlayerBoardData(20L, 1)));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            // the service reuses its batch list
+            insertedBatches.add(List.copyOf(invocation.<List<Object[]>>getArgument(1)));
+            return new int[0];
+        });
+    }
+
+    @Test
+    void testImportRosters() {
+        String csv = """
+                Verein;Mannschaft;Brett;Name;FIDE-ID
+                club1;1;1;Player One;4611016
+                club1;1;2;Player Two;
+                club1;2;1;"Three, Player"
+                club1;1;2;Duplicate Board
+                club2;1;1;Board Taken Before
+                club3;1;1;Unknown Club
+                club2;1;1000;Board Too High
+                club2;x;2;Bad Team Number
+                club2;1;2
+                club2;1;2;Player Four;123
+                """;
+
+        RosterImportReportData report = rosterImportService.importRosters(season, new StringReader(csv));
+
+        assertEquals(4, report.numberOfImportedPlayers());
+        assertEquals(6, report.numberOfSkippedRows());
+        assertEquals(List.of(5L, 6L, 7L, 8L, 9L, 10L),
+                report.skippedRows().stream().map(SkippedRosterRowData::lineNumber).toList());
+        assertEquals("Brett 2 der Mannschaft club1 1 ist bereits vergeben", report.skippedRows().get(0).reason());
+        assertEquals(List.of(2, 2), insertedBatches.stream().map(List::size).toList());
+        assertArrayEquals(new Object[]{"Player One", "4611016", 10L, 1}, insertedBatches.get(0).get(0));
+        assertArrayEquals(new Object[]{"Player Two", null, 10L, 2}, insertedBatches.get(0).get(1));
+        assertArrayEquals(new Object[]{"Three, Player", null, 11L, 1}, insertedBatches.get(1).get(0));
+        assertArrayEquals(new Object[]{"Player Four", "123", 20L, 2}, insertedBatches.get(1).get(1));
+        verify(teamService, times(1)).getTeamsByDivisionOfSeason(season);
+    }
+
+    @Test
+    void testReportedSkippedRowsAreBounded() {
+        StringBuilder csv = new StringBuilder("Verein;Mannschaft;Brett;Name\n");
+        for(int row = 0; row < 2 * RosterImportService.MAX_REPORTED_SKIPPED_ROWS; row++) {
+            csv.append("club3;1;1;Unknown Club\n");
+        }
+
+        RosterImportReportData report = rosterImportService.importRosters(season, new StringReader(csv.toString()));
+
+        assertEquals(0, report.numberOfImportedPlayers());
+        assertEquals(2L * RosterImportService.MAX_REPORTED_SKIPPED_ROWS, report.numberOfSkippedRows());
+        assertEquals(RosterImportService.MAX_REPORTED_SKIPPED_ROWS, report.skippedRows().size());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void testImportRostersWithBoardTakenConcurrently() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DuplicateKeyException("Duplicate entry '10-1' for key 'PLAYER_TEAM_NUMBER_UK'"));
+        StringReader csv = new StringReader("Verein;Mannschaft;Brett;Name\nclub1;1;1;Player One\n");
+
+        assertThrows(RosterImportFailedException.class, () -> rosterImportService.importRosters(season, csv));
+    }
+
+    @Test
+    void testImportRostersWithOtherIntegrityViolation() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("PLAYER_TEAM_ID_FK"));
+        StringReader csv = new StringReader("Verein;Mannschaft;Brett;Name\nclub1;1;1;Player One\n");
+
+        assertThrows(DataIntegrityViolationException.class, () -> rosterImportService.importRosters(season, csv));
+    }
+
+    @Test
+    void testImportEmptyFile() {
+        StringReader csv = new StringReader("");
+        assertThrows(RosterImportFailedException.class, () -> rosterImportService.importRosters(season, csv));
+    }
+}
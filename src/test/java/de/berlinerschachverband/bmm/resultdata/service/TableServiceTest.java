@@ -0,0 +1,111 @@
+package de.berlinerschachverband.bmm.resultdata.service;
+
+import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.data.DivisionData;
+import de.berlinerschachverband.bmm.basedata.data.SeasonData;
+import de.berlinerschachverband.bmm.basedata.data.TeamData;
+import de.berlinerschachverband.bmm.basedata.service.TeamService;
+import de.berlinerschachverband.bmm.events.ContentChangedEvent;
+import de.berlinerschachverband.bmm.events.MatchResultSubmittedEvent;
+import de.berlinerschachverband.bmm.events.StandingsChangedEvent;
+import de.berlinerschachverband.bmm.resultdata.data.MatchScoreData;
+import de.berlinerschachverband.bmm.resultdata.data.thymeleaf.RegularDivisionTableData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TableServiceTest {
+
+    private final TeamService teamService = mock(TeamService.class);
+    private final ResultService resultService = mock(ResultService.class);
+    private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
+    private TableService tableService;
+    private DivisionData division;
+
+    @BeforeEach
+    private void setUp() {
+        tableService = new TableService(teamService, resultService, applicationEventPublisher);
+        division = new DivisionData(1L, "division1", 1, new SeasonData(1L, "season1"));
+        when(teamService.getTeamsOfDivision(division)).thenReturn(Set.of(
+                new TeamData(1L, new ClubData(1L, "club1", true), Optional.of(division), 1),
+                new TeamData(2L, new ClubData(2L, "club2", true), Optional.of(division), 1),
+                new TeamData(3L, new ClubData(3L, "club3", true), Optional.of(division), 1)
+        ));
+        when(resultService.getMatchScoresOfDivision(division)).thenReturn(List.of());
+    }
+
+    @Test
+    void testGetRegularTableWithoutResults() {
+        assertEquals(List.of(
+                new RegularDivisionTableData("1", "club1 1", "0", "0", "0"),
+                new RegularDivisionTableData("1", "club2 1", "0", "0", "0"),
+                new RegularDivisionTableData("1", "club3 1", "0", "0", "0")
+        ), tableService.getRegularTable(division));
+    }
+
+    @Test
+    void testGetRegularTableWithStoredResults() {
+        when(resultService.getMatchScoresOfDivision(division)).thenReturn(List.of(
+                new MatchScoreData(1L, 1, 1L, 2L, 7, 9),
+                new MatchScoreData(2L, 2, 3L, 1L, 8, 8)));
+
+        assertEquals(List.of(
+                new RegularDivisionTableData("1", "club2 1", "1", "2", "4,5"),
+                new RegularDivisionTableData("2", "club1 1", "2", "1", "7,5"),
+                new RegularDivisionTableData("3", "club3 1", "1", "1", "4")
+        ), tableService.getRegularTable(division));
+    }
+
+    @Test
+    void testOnMatchResultSubmitted() {
+        tableService.onMatchResultSubmitted(new MatchResultSubmittedEvent(division, new MatchScoreData(1L, 1, 1L, 2L, 7, 9)));
+        tableService.onMatchResultSubmitted(new MatchResultSubmittedEvent(division, new MatchScoreData(1L, 3, 1L, 2L, 10, 6)));
+        // revision 2 arrives late and is ignored, revision 3 is applied twice
+        tableService.onMatchResultSubmitted(new MatchResultSubmittedEvent(division, new MatchScoreData(1L, 2, 1L, 2L, 8, 8)));
+        tableService.onMatchResultSubmitted(new MatchResultSubmittedEvent(division, new MatchScoreData(1L, 3, 1L, 2L, 10, 6)));
+
+        assertEquals(List.of(
+                new RegularDivisionTableData("1", "club1 1", "1", "2", "5"),
+                new RegularDivisionTableData("2", "club2 1", "1", "0", "3"),
+                new RegularDivisionTableData("3", "club3 1", "0", "0", "0")
+        ), tableService.getRegularTable(division));
+        verify(applicationEventPublisher, times(4))
+                .publishEvent(new ContentChangedEvent("season1", Optional.of("division1")));
+        verify(applicationEventPublisher, times(2)).publishEvent(any(StandingsChangedEvent.class));
+        verify(applicationEventPublisher).publishEvent(new StandingsChangedEvent(division,
+                new MatchScoreData(1L, 3, 1L, 2L, 10, 6), tableService.getRegularTable(division)));
+    }
+
+    @Test
+    void testOnMatchResultSubmittedWithoutStandingsInMemory() {
+        MatchScoreData matchScore = new MatchScoreData(1L, 2, 1L, 2L, 10, 6);
+        // the listener runs after commit, the stored scores contain the submitted revision already
+        when(resultService.getMatchScoresOfDivision(division)).thenReturn(List.of(
+                matchScore,
+                new MatchScoreData(2L, 1, 3L, 1L, 8, 8)));
+
+        tableService.onMatchResultSubmitted(new MatchResultSubmittedEvent(division, matchScore));
+
+        List<RegularDivisionTableData> table = List.of(
+                new RegularDivisionTableData("1", "club1 1", "2", "3", "9"),
+                new RegularDivisionTableData("2", "club3 1", "1", "1", "4"),
+                new RegularDivisionTableData("3", "club2 1", "1", "0", "3"));
+        assertEquals(table, tableService.getRegularTable(division));
+        verify(applicationEventPublisher).publishEvent(new StandingsChangedEvent(division, matchScore, table));
+    }
+
+    @Test
+    void testOnMatchResultSubmittedForUnknownTeam() {
+        assertThrows(IllegalArgumentException.class, () -> tableService.onMatchResultSubmitted(
+                new MatchResultSubmittedEvent(division, new MatchScoreData(1L, 1, 1L, 4L, 8, 8))));
+        verifyNoInteractions(applicationEventPublisher);
+    }
+}
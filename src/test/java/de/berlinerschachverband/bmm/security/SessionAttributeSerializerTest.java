@@ -0,0 +1,94 @@
+package de.berlinerschachverband.bmm.security;
+
+import de.berlinerschachverband.bmm.security.data.BmmUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionAttributeSerializerTest {
+
+    private final SessionAttributeSerializer serializer = new SessionAttributeSerializer(getClass().getClassLoader());
+    private BmmUser user;
+
+    @BeforeEach
+    private void setUp() {
+        user = new BmmUser("testuser", "{noop}secret", true,
+                AuthorityUtils.createAuthorityList(Roles.USER, Roles.CLUB_ADMIN), Set.of(1L, 2L), Set.of("club1", "club2"));
+    }
+
+    @Test
+    void testSecurityContextIsCompact() throws IOException {
+        SecurityContext securityContext = loggedIn(user);
+
+        byte[] bytes = serialize(securityContext);
+        SecurityContext actual = (SecurityContext) deserialize(bytes);
+
+        assertEquals(1, bytes[0]);
+        BmmUser actualUser = (BmmUser) actual.getAuthentication().getPrincipal();
+        assertEquals("testuser", actualUser.getUsername());
+        assertNull(actualUser.getPassword());
+        assertTrue(actualUser.isEnabled());
+        assertEquals(user.getAuthorities(), actualUser.getAuthorities());
+        assertEquals(Set.of(1L, 2L), actualUser.getClubIds());
+        assertEquals(Set.of("club1", "club2"), actualUser.getClubNames());
+        assertTrue(actual.getAuthentication().isAuthenticated());
+        assertEquals(securityContext.getAuthentication().getAuthorities(), actual.getAuthentication().getAuthorities());
+        assertNull(actual.getAuthentication().getCredentials());
+
+        ByteArrayOutputStream javaSerialization = new ByteArrayOutputStream();
+        new DefaultSerializer().serialize(securityContext, javaSerialization);
+        assertTrue(bytes.length * 10 < javaSerialization.size(),
+                "%d bytes compact, %d bytes Java serialization".formatted(bytes.length, javaSerialization.size()));
+    }
+
+    @Test
+    void testOtherAttributesUseJavaSerialization() throws IOException {
+        DefaultCsrfToken csrfToken = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "token");
+        byte[] bytes = serialize(csrfToken);
+
+        assertEquals(0, bytes[0]);
+        DefaultCsrfToken actual = (DefaultCsrfToken) deserialize(bytes);
+        assertEquals("token", actual.getToken());
+        assertEquals("_csrf", actual.getParameterName());
+    }
+
+    @Test
+    void testSecurityContextWithCredentialsUsesJavaSerialization() throws IOException {
+        SecurityContext securityContext = new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(user, "secret", user.getAuthorities()));
+        byte[] bytes = serialize(securityContext);
+
+        assertEquals(0, bytes[0]);
+        assertEquals("secret", ((SecurityContext) deserialize(bytes)).getAuthentication().getCredentials());
+    }
+
+    private static SecurityContext loggedIn(BmmUser user) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(user, "secret", user.getAuthorities());
+        // done by the authentication manager after a successful login
+        authentication.eraseCredentials();
+        return new SecurityContextImpl(authentication);
+    }
+
+    private byte[] serialize(Object attribute) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serializer.serialize(attribute, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private Object deserialize(byte[] bytes) throws IOException {
+        return serializer.deserialize(new ByteArrayInputStream(bytes));
+    }
+}
@@ -0,0 +1,111 @@
+package de.berlinerschachverband.bmm.security;
+
+import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.security.service.ClubAdminService;
+import de.berlinerschachverband.bmm.security.service.SessionCleanupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.servlet.http.Cookie;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "bmm.session.cleanup.batch-size=2")
+@AutoConfigureMockMvc
+class SessionStoreTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SessionCleanupService sessionCleanupService;
+
+    @Autowired
+    private ClubService clubService;
+
+    @Autowired
+    private ClubAdminService clubAdminService;
+
+    @BeforeEach
+    private void setUp() {
+        jdbcTemplate.update("delete from SPRING_SESSION");
+        if(jdbcTemplate.queryForObject("select count(*) from users where username = 'sessionuser'", Integer.class) == 0) {
+            jdbcTemplate.update("insert into users (username, password, enabled) values ('sessionuser', '{noop}secret', true)");
+            jdbcTemplate.update("insert into authorities (username, authority) values ('sessionuser', ?)", Roles.ADMINISTRATOR);
+        }
+    }
+
+    @Test
+    void testLoginIsStoredCompactly() throws Exception {
+        Cookie sessionCookie = login();
+
+        this.mockMvc.perform(get("/administration").cookie(sessionCookie))
+                .andExpect(status().isOk());
+        byte[] securityContext = jdbcTemplate.queryForObject(
+                "select ATTRIBUTE_BYTES from SPRING_SESSION_ATTRIBUTES where ATTRIBUTE_NAME = 'SPRING_SECURITY_CONTEXT'",
+                byte[].class);
+        assertEquals(1, securityContext[0]);
+        assertEquals("sessionuser", jdbcTemplate.queryForObject("select PRINCIPAL_NAME from SPRING_SESSION", String.class));
+    }
+
+    @Test
+    void testDeleteExpiredSessions() throws Exception {
+        for(int session = 0; session < 5; session++) {
+            login();
+        }
+        Cookie sessionCookie = login();
+        // the cookie holds the Base64 encoded session id
+        String sessionId = new String(Base64.getDecoder().decode(sessionCookie.getValue()));
+        jdbcTemplate.update("update SPRING_SESSION set EXPIRY_TIME = 0 where SESSION_ID <> ?", sessionId);
+
+        assertEquals(5, sessionCleanupService.deleteExpiredSessions());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from SPRING_SESSION", Integer.class));
+        this.mockMvc.perform(get("/administration").cookie(sessionCookie))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testRemoveClubAdminDeletesSessions() throws Exception {
+        clubService.createClub("sessionclub");
+        jdbcTemplate.update("insert into users (username, password, enabled) values ('sessionclubadmin', '{noop}secret', true)");
+        jdbcTemplate.update("insert into authorities (username, authority) values ('sessionclubadmin', ?)", Roles.CLUB_ADMIN);
+        clubAdminService.addClubAdmin("sessionclubadmin", "sessionclub");
+        Cookie sessionCookie = login("sessionclubadmin");
+        Cookie otherSessionCookie = login();
+        this.mockMvc.perform(get("/administration/club/sessionclub").cookie(sessionCookie))
+                .andExpect(status().isOk());
+
+        clubAdminService.removeClubAdmin("sessionclubadmin", "sessionclub");
+
+        this.mockMvc.perform(get("/administration/club/sessionclub").cookie(sessionCookie))
+                .andExpect(status().is3xxRedirection());
+        assertEquals(List.of("sessionuser"), jdbcTemplate.queryForList(
+                "select PRINCIPAL_NAME from SPRING_SESSION where PRINCIPAL_NAME is not null", String.class));
+        this.mockMvc.perform(get("/administration").cookie(otherSessionCookie))
+                .andExpect(status().isOk());
+    }
+
+    private Cookie login() throws Exception {
+        return login("sessionuser");
+    }
+
+    private Cookie login(String username) throws Exception {
+        Cookie sessionCookie = this.mockMvc.perform(formLogin().user(username).password("secret"))
+                .andReturn().getResponse().getCookie("SESSION");
+        assertNotNull(sessionCookie);
+        return sessionCookie;
+    }
+}
@@ -0,0 +1,127 @@
+package de.berlinerschachverband.bmm.security.controller;
+
+import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.exceptions.ClubAdminNotFoundException;
+import de.berlinerschachverband.bmm.exceptions.ClubNotFoundException;
+import de.berlinerschachverband.bmm.navigation.data.NavbarData;
+import de.berlinerschachverband.bmm.navigation.service.NavbarService;
+import de.berlinerschachverband.bmm.security.Roles;
+import de.berlinerschachverband.bmm.security.service.ClubAdminService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ClubAdminController.class)
+@AutoConfigureTestDatabase
+class ClubAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private NavbarService navbarService;
+
+    @MockBean
+    private ClubAdminService clubAdminService;
+
+    @MockBean
+    private ClubService clubService;
+
+    @BeforeEach
+    private void setUp() {
+        when(navbarService.getNavbarData()).thenReturn(new NavbarData(List.of("testSeason")));
+        when(clubService.getAllActiveClubsNames()).thenReturn(List.of("club1", "club2"));
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.ADMINISTRATOR)
+    void testGetClubAdminsShouldReturnClubAdminsPage() throws Exception {
+        this.mockMvc.perform(get("/administration/clubAdmins"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("clubAdmins"))
+                .andExpect(model().attributeExists("clubAdminData"))
+                .andExpect(model().attribute("clubNames", List.of("club1", "club2")));
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.ADMINISTRATOR)
+    void testPostAddClubAdmin() throws Exception {
+        this.mockMvc.perform(post("/administration/clubAdmins/add")
+                        .with(csrf())
+                        .param("username", "testuser")
+                        .param("clubName", "club1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("clubAdminsChanged"))
+                .andExpect(model().attribute("state", "success"));
+        verify(clubAdminService, times(1)).addClubAdmin("testuser", "club1");
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.ADMINISTRATOR)
+    void testPostAddClubAdminForUnknownClub() throws Exception {
+        doThrow(new ClubNotFoundException("club3")).when(clubAdminService).addClubAdmin("testuser", "club3");
+
+        this.mockMvc.perform(post("/administration/clubAdmins/add")
+                        .with(csrf())
+                        .param("username", "testuser")
+                        .param("clubName", "club3"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("clubAdminsChanged"))
+                .andExpect(model().attribute("state", "failure"));
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.ADMINISTRATOR)
+    void testPostRemoveClubAdmin() throws Exception {
+        this.mockMvc.perform(post("/administration/clubAdmins/remove")
+                        .with(csrf())
+                        .param("username", "testuser")
+                        .param("clubName", "club1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("clubAdminsChanged"))
+                .andExpect(model().attribute("state", "success"));
+        verify(clubAdminService, times(1)).removeClubAdmin("testuser", "club1");
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.ADMINISTRATOR)
+    void testPostRemoveClubAdminOfOtherClub() throws Exception {
+        doThrow(new ClubAdminNotFoundException("testuser", "club3")).when(clubAdminService)
+                .removeClubAdmin("testuser", "club3");
+
+        this.mockMvc.perform(post("/administration/clubAdmins/remove")
+                        .with(csrf())
+                        .param("username", "testuser")
+                        .param("clubName", "club3"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("clubAdminsChanged"))
+                .andExpect(model().attribute("state", "failure"))
+                .andExpect(content().string(containsString("verwaltet den Verein")));
+    }
+
+    @Test
+    @WithMockUser(authorities = Roles.CLUB_ADMIN)
+    void testPostRemoveClubAdminAccessDenied() throws Exception {
+        this.mockMvc.perform(post("/administration/clubAdmins/remove")
+                        .with(csrf())
+                        .param("username", "testuser")
+                        .param("clubName", "club1"))
+                .andExpect(status().isForbidden());
+        verify(clubAdminService, never()).removeClubAdmin(any(), any());
+    }
+}
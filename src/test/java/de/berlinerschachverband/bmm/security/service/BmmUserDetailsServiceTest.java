@@ -0,0 +1,125 @@
+package de.berlinerschachverband.bmm.security.service;
+
+import de.berlinerschachverband.bmm.basedata.data.Club;
+import de.berlinerschachverband.bmm.basedata.data.ClubData;
+import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.security.Roles;
+import de.berlinerschachverband.bmm.security.data.BmmUser;
+import de.berlinerschachverband.bmm.security.data.ClubAdmin;
+import de.berlinerschachverband.bmm.security.data.ClubAdminRepository;
+import de.berlinerschachverband.bmm.security.data.Users;
+import de.berlinerschachverband.bmm.security.data.UsersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BmmUserDetailsServiceTest {
+
+    private final UsersRepository usersRepository = mock(UsersRepository.class);
+    private final ClubAdminRepository clubAdminRepository = mock(ClubAdminRepository.class);
+    private final ClubService clubService = mock(ClubService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private BmmUserDetailsService userDetailsService;
+
+    @BeforeEach
+    private void setUp() {
+        userDetailsService = new BmmUserDetailsService(usersRepository, clubAdminRepository, clubService, jdbcTemplate,
+                100, Duration.ofMinutes(10));
+        Users user = new Users();
+        user.setUsername("testuser");
+        user.setPassword("{noop}secret");
+        user.setEnabled(true);
+        when(usersRepository.findById("testuser")).thenReturn(Optional.of(user));
+        when(usersRepository.findById("unknown")).thenReturn(Optional.empty());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("testuser")))
+                .thenReturn(List.of(Roles.USER, Roles.CLUB_ADMIN));
+
+        Club club1 = new Club();
+        club1.setName("zclub1");
+        Club club2 = new Club();
+        club2.setName("club2");
+        ClubAdmin clubAdmin1 = new ClubAdmin();
+        clubAdmin1.setClub(club1);
+        ClubAdmin clubAdmin2 = new ClubAdmin();
+        clubAdmin2.setClub(club2);
+        when(clubAdminRepository.findByUsers_Username("testuser")).thenReturn(List.of(clubAdmin1, clubAdmin2));
+        when(clubService.toClubData(club1)).thenReturn(new ClubData(1L, "zclub1", true));
+        when(clubService.toClubData(club2)).thenReturn(new ClubData(2L, "club2", true));
+    }
+
+    @Test
+    void testLoadUserByUsername() {
+        UserDetails userDetails = userDetailsService.loadUserByUsername("testuser");
+
+        assertEquals("testuser", userDetails.getUsername());
+        assertEquals("{noop}secret", userDetails.getPassword());
+        assertTrue(userDetails.isEnabled());
+        assertEquals(List.of(Roles.CLUB_ADMIN, Roles.USER),
+                userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).sorted().toList());
+        assertEquals(List.of(new ClubData(2L, "club2", true), new ClubData(1L, "zclub1", true)),
+                userDetailsService.getUserAccount("testuser").clubs());
+    }
+
+    @Test
+    void testPrincipalHoldsClubs() {
+        BmmUser user = userDetailsService.loadUserByUsername("testuser");
+
+        assertEquals(Set.of(1L, 2L), user.getClubIds());
+        assertEquals(Set.of("zclub1", "club2"), user.getClubNames());
+        assertTrue(user.isClubAdminOf("club2"));
+        assertTrue(user.isClubAdminOf(1L));
+        assertFalse(user.isClubAdminOf("club3"));
+    }
+
+    @Test
+    void testAccountIsCached() {
+        UserDetails userDetails = userDetailsService.loadUserByUsername("testuser");
+        // done by the authentication manager after a successful login
+        ((CredentialsContainer) userDetails).eraseCredentials();
+
+        assertEquals("{noop}secret", userDetailsService.loadUserByUsername("testuser").getPassword());
+        userDetailsService.getUserAccount("testuser");
+        verify(usersRepository, times(1)).findById("testuser");
+        verify(clubAdminRepository, times(1)).findByUsers_Username("testuser");
+    }
+
+    @Test
+    void testInvalidate() {
+        userDetailsService.loadUserByUsername("testuser");
+        userDetailsService.invalidate("testuser");
+        userDetailsService.loadUserByUsername("testuser");
+
+        verify(usersRepository, times(2)).findById("testuser");
+    }
+
+    @Test
+    void testUnknownUser() {
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("unknown"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("unknown"));
+        // misses are not cached, a user created in between can log in right away
+        verify(usersRepository, times(2)).findById("unknown");
+    }
+
+    @Test
+    void testUserWithoutAuthorities() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("testuser"))).thenReturn(List.of());
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("testuser"));
+        verify(clubAdminRepository, never()).findByUsers_Username(any());
+    }
+}
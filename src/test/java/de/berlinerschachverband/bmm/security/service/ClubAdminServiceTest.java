@@ -0,0 +1,112 @@
+package de.berlinerschachverband.bmm.security.service;
+
+import de.berlinerschachverband.bmm.basedata.data.Club;
+import de.berlinerschachverband.bmm.basedata.service.ClubService;
+import de.berlinerschachverband.bmm.exceptions.ClubAdminNotFoundException;
+import de.berlinerschachverband.bmm.exceptions.UserDoesNotExistException;
+import de.berlinerschachverband.bmm.security.data.ClubAdmin;
+import de.berlinerschachverband.bmm.security.data.ClubAdminRepository;
+import de.berlinerschachverband.bmm.security.data.Users;
+import de.berlinerschachverband.bmm.security.data.UsersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ClubAdminServiceTest {
+
+    private final ClubAdminRepository clubAdminRepository = mock(ClubAdminRepository.class);
+    private final UsersRepository usersRepository = mock(UsersRepository.class);
+    private final ClubService clubService = mock(ClubService.class);
+    private final BmmUserDetailsService userDetailsService = mock(BmmUserDetailsService.class);
+    private final FindByIndexNameSessionRepository<Session> sessionRepository = mock(FindByIndexNameSessionRepository.class);
+    private ClubAdminService clubAdminService;
+    private Users user;
+    private Club club;
+
+    @BeforeEach
+    private void setUp() {
+        ObjectProvider<FindByIndexNameSessionRepository<?>> sessionRepositoryProvider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<FindByIndexNameSessionRepository<?>>>getArgument(0).accept(sessionRepository);
+            return null;
+        }).when(sessionRepositoryProvider).ifAvailable(any());
+        clubAdminService = new ClubAdminService(clubAdminRepository, usersRepository, clubService,
+                userDetailsService, sessionRepositoryProvider);
+        user = new Users();
+        user.setUsername("testuser");
+        club = new Club();
+        club.setName("club1");
+        when(usersRepository.findById("testuser")).thenReturn(Optional.of(user));
+        when(clubService.getClub("club1")).thenReturn(club);
+    }
+
+    @Test
+    void testAddClubAdmin() {
+        clubAdminService.addClubAdmin("testuser", "club1");
+
+        ArgumentCaptor<ClubAdmin> captor = ArgumentCaptor.forClass(ClubAdmin.class);
+        verify(clubAdminRepository, times(1)).saveAndFlush(captor.capture());
+        assertEquals(user, captor.getValue().getUser());
+        assertEquals(club, captor.getValue().getClub());
+        verify(userDetailsService, times(1)).invalidate("testuser");
+    }
+
+    @Test
+    void testAddClubAdminTwice() {
+        when(clubAdminRepository.findByUsers_Username("testuser")).thenReturn(List.of(clubAdmin()));
+
+        clubAdminService.addClubAdmin("testuser", "club1");
+
+        verify(clubAdminRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void testAddClubAdminForUnknownUser() {
+        assertThrows(UserDoesNotExistException.class, () -> clubAdminService.addClubAdmin("unknown", "club1"));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void testRemoveClubAdmin() {
+        ClubAdmin clubAdmin = clubAdmin();
+        when(clubAdminRepository.findByUsers_Username("testuser")).thenReturn(List.of(clubAdmin));
+        when(sessionRepository.findByPrincipalName("testuser"))
+                .thenReturn(Map.of("session1", mock(Session.class), "session2", mock(Session.class)));
+
+        clubAdminService.removeClubAdmin("testuser", "club1");
+
+        verify(clubAdminRepository, times(1)).deleteAll(List.of(clubAdmin));
+        verify(userDetailsService, times(1)).invalidate("testuser");
+        verify(sessionRepository, times(1)).deleteById("session1");
+        verify(sessionRepository, times(1)).deleteById("session2");
+    }
+
+    @Test
+    void testRemoveClubAdminOfOtherClub() {
+        when(clubAdminRepository.findByUsers_Username("testuser")).thenReturn(List.of(clubAdmin()));
+
+        assertThrows(ClubAdminNotFoundException.class, () -> clubAdminService.removeClubAdmin("testuser", "club2"));
+        verify(clubAdminRepository, never()).deleteAll(any());
+        verifyNoInteractions(userDetailsService, sessionRepository);
+    }
+
+    private ClubAdmin clubAdmin() {
+        ClubAdmin clubAdmin = new ClubAdmin();
+        clubAdmin.setUser(user);
+        clubAdmin.setClub(club);
+        return clubAdmin;
+    }
+}
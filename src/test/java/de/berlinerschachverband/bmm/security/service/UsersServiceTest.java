@@ -0,0 +1,59 @@
+package de.berlinerschachverband.bmm.security.service;
+
+import de.berlinerschachverband.bmm.exceptions.WrongPasswordException;
+import de.berlinerschachverband.bmm.security.data.ChangePasswordData;
+import de.berlinerschachverband.bmm.security.data.Users;
+import de.berlinerschachverband.bmm.security.data.UsersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UsersServiceTest {
+
+    private final UsersRepository usersRepository = mock(UsersRepository.class);
+    private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    private final BmmUserDetailsService userDetailsService = mock(BmmUserDetailsService.class);
+    private UsersService usersService;
+    private Users user;
+
+    @BeforeEach
+    private void setUp() {
+        usersService = new UsersService(usersRepository, passwordEncoder, userDetailsService);
+        user = new Users();
+        user.setUsername("testuser");
+        user.setPassword("{noop}secret");
+        user.setEnabled(true);
+        when(usersRepository.existsByUsername("testuser")).thenReturn(true);
+        when(usersRepository.getOne("testuser")).thenReturn(user);
+    }
+
+    @Test
+    void testChangePassword() {
+        usersService.changePassword("testuser", changePasswordData("secret"));
+
+        assertTrue(passwordEncoder.matches("newSecret", user.getPassword()));
+        verify(usersRepository, times(1)).saveAndFlush(user);
+        verify(userDetailsService, times(1)).invalidate("testuser");
+    }
+
+    @Test
+    void testChangePasswordWithWrongPassword() {
+        assertThrows(WrongPasswordException.class,
+                () -> usersService.changePassword("testuser", changePasswordData("wrong")));
+        verify(usersRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private ChangePasswordData changePasswordData(String oldPassword) {
+        ChangePasswordData changePasswordData = new ChangePasswordData();
+        changePasswordData.setOldPassword(oldPassword);
+        changePasswordData.setNewPassword("newSecret");
+        changePasswordData.setNewPasswordConfirm("newSecret");
+        return changePasswordData;
+    }
+}